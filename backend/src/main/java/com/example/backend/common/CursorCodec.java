@@ -0,0 +1,40 @@
+package com.example.backend.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 페이지네이션용 불투명(opaque) 커서 인코딩/디코딩
+// 정렬 키와 ID 등 여러 값을 ':'로 이어 붙인 뒤 URL-safe Base64로 감싼다.
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // expectedParts 개수가 맞지 않거나 디코딩할 수 없으면 IllegalArgumentException
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
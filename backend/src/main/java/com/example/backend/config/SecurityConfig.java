@@ -1,5 +1,6 @@
 package com.example.backend.config;
 
+import com.example.backend.dto.CursorPageDto;
 import com.example.backend.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +51,8 @@ public class SecurityConfig {
                         // 2. 조회 전용 (GET 요청은 모두 허용 - 스터디 목록, 상세, 댓글 조회 등)
                         // "/api/study-groups/**"는 하위 경로를 모두 포함하므로 댓글 조회(/comments)도 여기에 포함됩니다.
                         .requestMatchers(HttpMethod.GET, "/api/study-groups/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/comments/*/replies").permitAll() // 답글 페이지 조회
+                        .requestMatchers(HttpMethod.GET, "/api/comments/*/thread").permitAll() // 스레드 전체 조회
 
                         // 3. 인증 필요 (나머지 모든 스터디 그룹 관련 요청)
                         // 위에서 GET은 이미 허용되었으므로, 여기 도달하는 /api/study-groups/** 요청은
@@ -76,6 +79,7 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList(CursorPageDto.NEXT_CURSOR_HEADER)); // 커서 페이지네이션
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
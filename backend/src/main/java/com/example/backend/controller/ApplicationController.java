@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.Application.ApplicationBatchProcessRequestDto;
 import com.example.backend.dto.Application.ApplicationRequestDto;
 import com.example.backend.dto.Application.ApplicationResponseDto;
 import com.example.backend.dto.Application.ApplicationProcessRequestDto;
@@ -39,6 +40,16 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    // 그룹장 -> 신청 일괄 처리 (여러 신청을 한 번에 승인/거절, 처리된 신청 목록 반환)
+    @PostMapping("/process")
+    public ResponseEntity<List<ApplicationResponseDto>> processApplications(
+            @PathVariable Long groupId,
+            @RequestBody ApplicationBatchProcessRequestDto requestDto,
+            @AuthenticationPrincipal UserDetails userDetails
+            ) {
+        return ResponseEntity.ok(applicationService.processApplications(groupId, requestDto, userDetails));
+    }
+
     // 그룹장 -> 신청 처리
     @PostMapping("/{applicationId}/process")
     public ResponseEntity<String> processApplication(
@@ -17,6 +17,9 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+    private static final int MAX_PAGE_LIMIT = 100;
+
     @PostMapping("/api/study-groups/{studyGroupId}/comments")
     public ResponseEntity<CommentResponseDto> createComment(
             @PathVariable Long studyGroupId,
@@ -26,9 +29,34 @@ public class CommentController {
         return ResponseEntity.ok(commentService.createComment(studyGroupId, requestDto, userDetails));
     }
 
+    // 최상위 댓글을 최신순으로 limit개씩 (답글 수 + 앞쪽 답글 일부 포함), 다음 페이지 커서는 X-Next-Cursor 헤더로 전달
     @GetMapping("/api/study-groups/{studyGroupId}/comments")
-    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long studyGroupId) {
-        return ResponseEntity.ok(commentService.getComments(studyGroupId));
+    public ResponseEntity<List<CommentResponseDto>> getComments(
+            @PathVariable Long studyGroupId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return commentService.getComments(studyGroupId, pageLimit(limit), cursor).toResponseEntity();
+    }
+
+    // 한 댓글의 답글을 오래된 순으로 limit개씩
+    @GetMapping("/api/comments/{commentId}/replies")
+    public ResponseEntity<List<CommentResponseDto>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return commentService.getReplies(commentId, pageLimit(limit), cursor).toResponseEntity();
+    }
+
+    // 한 댓글과 그 아래 모든 답글을 스레드 순서(깊이 우선)로 limit개씩
+    @GetMapping("/api/comments/{commentId}/thread")
+    public ResponseEntity<List<CommentResponseDto>> getThread(
+            @PathVariable Long commentId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return commentService.getThread(commentId, pageLimit(limit), cursor).toResponseEntity();
     }
 
     @DeleteMapping("/api/comments/{commentId}")
@@ -39,4 +67,11 @@ public class CommentController {
         commentService.deleteComment(commentId, userDetails);
         return ResponseEntity.ok("댓글이 삭제되었습니다.");
     }
+
+    private int pageLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
 }
\ No newline at end of file
@@ -1,15 +1,23 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CursorPageDto;
 import com.example.backend.dto.studygroup.*;
 // import com.example.backend.service.RecommendationService; // 👈 제거: 컨트롤러에서 직접 사용 안 함
+import com.example.backend.realtime.StudyGroupStreamService;
 import com.example.backend.service.StudyGroupService;
+import com.example.backend.view.ViewerKeys;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,8 +26,12 @@ import java.util.List;
 public class StudyGroupController {
 
     private final StudyGroupService studyGroupService;
+    private final StudyGroupStreamService studyGroupStreamService;
     // private final RecommendationService recommendationService; // 👈 제거
 
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+    private static final int MAX_PAGE_LIMIT = 100;
+
     // 스터디 그룹 생성
     @PostMapping
     public ResponseEntity<StudyGroupDetailResponseDto> createStudyGroup(
@@ -31,6 +43,7 @@ public class StudyGroupController {
     }
 
     // 스터디 그룹 전체 조회
+    // limit개씩 반환하며(검색어가 있으면 관련도 순), 다음 페이지 커서는 X-Next-Cursor 헤더로 전달
     @GetMapping
     public ResponseEntity<List<StudyGroupListResponseDto>> findAllStudyGroup(
             @RequestParam(value = "region", required = false) String region,
@@ -38,19 +51,56 @@ public class StudyGroupController {
             @RequestParam(value = "search", required = false) String search,
             @RequestParam(value = "topic", required = false) String topic,
             @RequestParam(value = "studyStyle", required = false) String studyStyle,
-            @RequestParam(value = "recruiting", required = false) Boolean recruiting
+            @RequestParam(value = "recruiting", required = false) Boolean recruiting,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        List<StudyGroupListResponseDto> studyGroups = studyGroupService.findAllStudyGroup(region, sort, search, topic, studyStyle, recruiting);
-        return ResponseEntity.ok(studyGroups);
+        CursorPageDto<StudyGroupListResponseDto> studyGroups =
+                studyGroupService.findAllStudyGroup(region, sort, search, topic, studyStyle, recruiting, pageLimit(limit), cursor);
+        return studyGroups.toResponseEntity();
+    }
+
+    // 태그/스터디 그룹 제목 자동완성 (초성 검색 지원: "ㅅㅍㄹ" -> "스프링")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionDto>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false, defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(studyGroupService.autocomplete(query, Math.max(1, limit)));
     }
 
     // 스터디 그룹 단일 조회
     @GetMapping("/{id}")
-    public ResponseEntity<StudyGroupDetailResponseDto> findStudyGroupById(@PathVariable Long id) {
-        StudyGroupDetailResponseDto studyGroup = studyGroupService.findStudyGroupById(id);
+    public ResponseEntity<StudyGroupDetailResponseDto> findStudyGroupById(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request
+    ) {
+        StudyGroupDetailResponseDto studyGroup = studyGroupService.findStudyGroupById(id, ViewerKeys.of(userDetails, request));
         return ResponseEntity.ok(studyGroup);
     }
 
+    // 기간별 고유 조회자 수 (기본: 오늘 포함 최근 7일)
+    @GetMapping("/{id}/unique-views")
+    public ResponseEntity<UniqueViewCountDto> countUniqueViewers(
+            @PathVariable Long id,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        return ResponseEntity.ok(studyGroupService.countUniqueViewers(id, start, end));
+    }
+
+    // 스터디 그룹 실시간 이벤트 구독 (SSE: 새 댓글 "comment", 그룹장/신청자에게는 신청 변경 "application")
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        return studyGroupStreamService.subscribe(id, userDetails);
+    }
+
     // 스터디 그룹 수정
     @PutMapping("/{id}")
     public ResponseEntity<StudyGroupDetailResponseDto> updateStudyGroup(
@@ -73,21 +123,35 @@ public class StudyGroupController {
 
     // 스터디 그룹 추천 목록 (v1: 점수 기반 추천 알고리즘)
     // 현재 StudyGroupService.recommendStudyGroups가 최신 로직(v2 포함)을 사용하고 있으므로 v1 엔드포인트도 최신 로직을 반환하게 됩니다.
+    // limit개씩 반환하며, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달
     @GetMapping("/recommendations")
     public ResponseEntity<List<RecommendedStudyGroupDto>> getRecommendedStudyGroups(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        List<RecommendedStudyGroupDto> recommendedGroups = studyGroupService.recommendStudyGroups(userDetails);
-        return ResponseEntity.ok(recommendedGroups);
+        CursorPageDto<RecommendedStudyGroupDto> recommendedGroups =
+                studyGroupService.recommendStudyGroups(userDetails, pageLimit(limit), cursor);
+        return recommendedGroups.toResponseEntity();
     }
 
     // 스터디 그룹 추천 목록 (v2: 콘텐츠 기반 추천 - v1과 동일한 로직 사용)
     @GetMapping("/recommendations/v2")
     public ResponseEntity<List<RecommendedStudyGroupDto>> getRecommendedStudyGroupV2(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
         // 👈 [수정] RecommendationService 직접 호출 대신 StudyGroupService 사용
-        List<RecommendedStudyGroupDto> recommendedGroups = studyGroupService.recommendStudyGroups(userDetails);
-        return ResponseEntity.ok(recommendedGroups);
+        CursorPageDto<RecommendedStudyGroupDto> recommendedGroups =
+                studyGroupService.recommendStudyGroups(userDetails, pageLimit(limit), cursor);
+        return recommendedGroups.toResponseEntity();
+    }
+
+    private int pageLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
     }
-}
\ No newline at end of file
+}
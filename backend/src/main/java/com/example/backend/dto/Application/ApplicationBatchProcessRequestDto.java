@@ -0,0 +1,15 @@
+package com.example.backend.dto.Application;
+
+import com.example.backend.entity.ApplicationStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 여러 신청을 같은 상태(ACCEPTED/REJECTED)로 한 번에 처리
+@Getter
+@NoArgsConstructor
+public class ApplicationBatchProcessRequestDto {
+    private List<Long> applicationIds;
+    private ApplicationStatus status;
+}
@@ -13,10 +13,15 @@ public class ApplicationResponseDto {
     private final ApplicationStatus status;
 
     public ApplicationResponseDto(Application application) {
+        this(application, application.getStatus());
+    }
+
+    // 벌크 UPDATE로 상태를 바꾼 뒤 엔티티를 다시 읽지 않고 응답을 만들 때
+    public ApplicationResponseDto(Application application, ApplicationStatus status) {
         this.applicantId = application.getApplicant().getId();
         this.applicationId = application.getId();
         this.applicantNickname = application.getApplicant().getNickname();
         this.message = application.getMessage();
-        this.status = application.getStatus();
+        this.status = status;
     }
 }
@@ -0,0 +1,26 @@
+package com.example.backend.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+// 커서 기반 페이지 결과
+// 기존 클라이언트가 배열 응답을 그대로 쓸 수 있도록, 본문은 목록만 내려주고 다음 커서는 헤더로 전달한다.
+@Getter
+@RequiredArgsConstructor
+public class CursorPageDto<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor; // 마지막 페이지면 null
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items);
+    }
+}
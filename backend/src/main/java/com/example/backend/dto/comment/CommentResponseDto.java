@@ -3,8 +3,7 @@ package com.example.backend.dto.comment;
 import com.example.backend.entity.Comment;
 import lombok.Getter;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Getter
 public class CommentResponseDto {
@@ -13,17 +12,50 @@ public class CommentResponseDto {
     private String authorNickname;
     private Long authorId;
     private LocalDateTime createdAt;
+    private Long parentId; // 최상위 댓글이면 null
+    private Integer depth; // 최상위 댓글 = 0
+    private long replyCount; // 전체 답글 수 (children은 그중 앞부분만)
+    private long threadSize; // 하위 트리 전체(답글의 답글 포함) 댓글 수
     private List<CommentResponseDto> children; // 👈 [추가] 대댓글 리스트
 
+    // 새로 작성된 댓글 응답용 (답글 없음)
     public CommentResponseDto(Comment comment) {
+        this(comment, 0, 0, new ArrayList<>());
+    }
+
+    private CommentResponseDto(Comment comment, long replyCount, long threadSize, List<CommentResponseDto> children) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.authorNickname = comment.getAuthor().getNickname();
         this.authorId = comment.getAuthor().getId();
         this.createdAt = comment.getCreatedAt();
-        // 자식 댓글들을 DTO로 변환하여 리스트에 담음
-        this.children = comment.getChildren().stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+        this.parentId = comment.getParent() == null ? null : comment.getParent().getId(); // 프록시 초기화 없음
+        this.depth = comment.getDepth();
+        this.replyCount = replyCount;
+        this.threadSize = threadSize;
+        this.children = children;
+    }
+
+    // 댓글 목록과 미리 가져온 답글(오래된 순)을 부모 ID 맵으로 묶는다. O(n)
+    // 엔티티의 children 컬렉션을 건드리지 않으므로 추가 지연 로딩이 일어나지 않는다. (작성자는 함께 조회되어 있어야 함)
+    public static List<CommentResponseDto> withReplies(List<Comment> comments, List<Comment> replies,
+                                                       Map<Long, Long> replyCounts, Map<Long, Long> threadSizes) {
+        Map<Long, CommentResponseDto> byId = new HashMap<>(comments.size() * 2);
+        List<CommentResponseDto> result = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            CommentResponseDto dto = new CommentResponseDto(comment, replyCounts.getOrDefault(comment.getId(), 0L),
+                    threadSizes.getOrDefault(comment.getId(), 0L), new ArrayList<>());
+            byId.put(comment.getId(), dto);
+            result.add(dto);
+        }
+        for (Comment reply : replies) {
+            // 프록시의 getId()는 초기화 없이 외래 키 값을 돌려준다.
+            CommentResponseDto parent = byId.get(reply.getParent().getId());
+            if (parent != null) {
+                parent.children.add(new CommentResponseDto(reply, replyCounts.getOrDefault(reply.getId(), 0L),
+                        threadSizes.getOrDefault(reply.getId(), 0L), new ArrayList<>()));
+            }
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
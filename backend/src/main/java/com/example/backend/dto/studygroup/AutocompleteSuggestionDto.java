@@ -0,0 +1,17 @@
+package com.example.backend.dto.studygroup;
+
+import com.example.backend.search.AutocompleteIndex;
+import lombok.Getter;
+
+@Getter
+public class AutocompleteSuggestionDto {
+    private final String type; // TAG 또는 STUDY_GROUP
+    private final Long id;
+    private final String text;
+
+    public AutocompleteSuggestionDto(AutocompleteIndex.Suggestion suggestion) {
+        this.type = suggestion.type().name();
+        this.id = suggestion.id();
+        this.text = suggestion.text();
+    }
+}
@@ -27,9 +27,15 @@ public class StudyGroupDetailResponseDto {
 
     private final LocalDateTime createdAt;
     private final int viewCount;
+    private final long uniqueViewCount;
     private final int interestCount;
 
     public StudyGroupDetailResponseDto(StudyGroup studyGroup) {
+        this(studyGroup, studyGroup.getViewCount());
+    }
+
+    // viewCount: DB 값에 아직 반영되지 않은 조회수(ViewCountBuffer)를 더한 값
+    public StudyGroupDetailResponseDto(StudyGroup studyGroup, long viewCount) {
         this.id = studyGroup.getId();
         this.title = studyGroup.getTitle();
         this.topic = studyGroup.getTopic();
@@ -46,7 +52,8 @@ public class StudyGroupDetailResponseDto {
         this.creatorNickname = studyGroup.getCreator().getNickname();
         this.recruitmentDeadline = studyGroup.getRecruitmentDeadline();
         this.createdAt = studyGroup.getCreatedAt();
-        this.viewCount = studyGroup.getViewCount();
-        this.interestCount = studyGroup.getInterests().size();
+        this.viewCount = (int) Math.min(viewCount, Integer.MAX_VALUE);
+        this.uniqueViewCount = studyGroup.getUniqueViewCount();
+        this.interestCount = studyGroup.getInterestCount();
     }
 }
\ No newline at end of file
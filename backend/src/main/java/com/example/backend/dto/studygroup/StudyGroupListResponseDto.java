@@ -15,6 +15,7 @@ public class StudyGroupListResponseDto {
 
     private String region;
     private final int viewCount;
+    private final long uniqueViewCount;
     private final int interestCount;
 
     public StudyGroupListResponseDto(StudyGroup studyGroup) {
@@ -25,6 +26,7 @@ public class StudyGroupListResponseDto {
         this.recruitmentDeadline = studyGroup.getRecruitmentDeadline();
         this.region = studyGroup.getRegion();
         this.viewCount = studyGroup.getViewCount();
-        this.interestCount = studyGroup.getInterests().size();
+        this.uniqueViewCount = studyGroup.getUniqueViewCount();
+        this.interestCount = studyGroup.getInterestCount();
     }
 }
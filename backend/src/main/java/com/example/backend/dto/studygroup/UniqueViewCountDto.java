@@ -0,0 +1,20 @@
+package com.example.backend.dto.studygroup;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class UniqueViewCountDto {
+    private final Long studyGroupId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long uniqueViewers; // HyperLogLog 추정값
+
+    public UniqueViewCountDto(Long studyGroupId, LocalDate from, LocalDate to, long uniqueViewers) {
+        this.studyGroupId = studyGroupId;
+        this.from = from;
+        this.to = to;
+        this.uniqueViewers = uniqueViewers;
+    }
+}
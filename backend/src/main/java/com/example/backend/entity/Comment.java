@@ -8,15 +8,23 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_group_parent_id", columnList = "study_group_id, parent_id, id"), // 최상위 댓글 페이지
+        @Index(name = "idx_comments_parent_id", columnList = "parent_id, id"), // 답글 페이지, 답글 수 집계
+        @Index(name = "idx_comments_path", columnList = "path") // 하위 트리 범위 조회/삭제
+})
 public class Comment {
 
+    public static final int PATH_SEGMENT_LENGTH = 12; // 경로 한 단계 = 0으로 채운 12자리 ID
+    // ASCII 컬럼이라 한 글자 = 1바이트: InnoDB 인덱스 키 최대 길이(3072바이트)까지 써서 256단계(깊이 0~255)를 담는다.
+    public static final int MAX_PATH_LENGTH = 3072;
+    public static final String PATH_COLUMN_DEFINITION =
+            "VARCHAR(" + MAX_PATH_LENGTH + ") CHARACTER SET ascii COLLATE ascii_bin";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,9 +45,14 @@ public class Comment {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
-    // 자식 댓글들 (대댓글 리스트)
-    @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Comment> children = new ArrayList<>();
+    // 구체화 경로: 루트부터 자신까지의 ID를 고정 폭으로 이어 붙인 값 ("000000000001000000000007")
+    // 하위 트리 전체가 "path LIKE '자신의 경로%'" 하나의 인덱스 범위가 된다.
+    // 저장 후 ID가 정해져야 만들 수 있으므로 assignPath()로 채운다. (기존 댓글은 CommentPathBackfill이 채움)
+    @Column(columnDefinition = PATH_COLUMN_DEFINITION)
+    private String path;
+
+    // 루트 댓글 = 0
+    private Integer depth;
 
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -51,4 +64,30 @@ public class Comment {
         this.author = author;
         this.parent = parent;
     }
+
+    // 부모 경로가 아직 없으면(백필 전) 조상부터 차례로 채운다.
+    // 부모 경로를 더 늘릴 수 없으면(256단계를 넘는 기존 데이터) 경로를 비워 둔다. 부모 관계는 바꾸지 않는다.
+    public void assignPath() {
+        if (parent == null) {
+            this.path = pathSegment(id);
+            this.depth = 0;
+            return;
+        }
+        if (parent.getPath() == null) {
+            parent.assignPath();
+        }
+        if (parent.getPath() == null || !canExtend(parent.getPath())) {
+            return;
+        }
+        this.path = parent.getPath() + pathSegment(id);
+        this.depth = parent.getDepth() + 1;
+    }
+
+    public static boolean canExtend(String parentPath) {
+        return parentPath.length() + PATH_SEGMENT_LENGTH <= MAX_PATH_LENGTH;
+    }
+
+    public static String pathSegment(long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
 }
\ No newline at end of file
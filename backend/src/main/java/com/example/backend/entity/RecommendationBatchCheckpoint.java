@@ -0,0 +1,57 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 추천 배치 진행 상황. 청크가 커밋될 때마다 마지막 사용자 ID를 기록하여 중단된 실행을 이어서 처리한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "recommendation_batch_checkpoint")
+public class RecommendationBatchCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "run_started_at", nullable = false)
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "processed_users", nullable = false)
+    private long processedUsers;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt; // null이면 실행 중(또는 중단됨)
+
+    public RecommendationBatchCheckpoint(String jobName) {
+        this.jobName = jobName;
+        start();
+    }
+
+    public boolean isRunning() {
+        return finishedAt == null;
+    }
+
+    public void start() {
+        this.runStartedAt = LocalDateTime.now();
+        this.lastUserId = 0L;
+        this.processedUsers = 0;
+        this.finishedAt = null;
+    }
+
+    public void advance(Long lastUserId, int processedUsers) {
+        this.lastUserId = lastUserId;
+        this.processedUsers += processedUsers;
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -17,7 +17,18 @@ import java.util.Set; // 🌟 Set으로 변경
 @Getter
 @EqualsAndHashCode(of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "study_group")
+// 목록 조회(StudyGroupSpecifications)의 지역 필터 + 정렬 조합용 인덱스
+@Table(name = "study_group", indexes = {
+        @Index(name = "idx_study_group_region_id", columnList = "region, id"),
+        @Index(name = "idx_study_group_deadline_id", columnList = "recruitment_deadline, id"),
+        @Index(name = "idx_study_group_region_deadline_id", columnList = "region, recruitment_deadline, id"),
+        @Index(name = "idx_study_group_view_count_id", columnList = "view_count, id"),
+        @Index(name = "idx_study_group_region_view_count_id", columnList = "region, view_count, id"),
+        @Index(name = "idx_study_group_interest_count_id", columnList = "interest_count, id"),
+        @Index(name = "idx_study_group_region_interest_count_id", columnList = "region, interest_count, id"),
+        @Index(name = "idx_study_group_unique_view_count_id", columnList = "unique_view_count, id"),
+        @Index(name = "idx_study_group_region_unique_view_count_id", columnList = "region, unique_view_count, id")
+})
 public class StudyGroup {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,10 +56,21 @@ public class StudyGroup {
     @Column(name = "region")
     private String region;
 
+    // 카운터 컬럼(조회수, 고유 조회자 수, 관심 수)은 SQL로만 증감한다. updatable = false로 두어
+    // 그룹 수정 시 UPDATE 문에 메모리의 오래된 값이 실려 동시에 반영된 증감을 덮어쓰지 않게 한다.
+
     // 조회수
-    @Column(name = "view_count", columnDefinition = "integer default 0", nullable = false)
+    @Column(name = "view_count", columnDefinition = "integer default 0", nullable = false, updatable = false)
     private int viewCount = 0;
 
+    // 고유 조회자 수 추정치 (UniqueViewCounter가 HyperLogLog 스케치로 계산하여 주기적으로 반영)
+    @Column(name = "unique_view_count", columnDefinition = "bigint default 0", nullable = false, updatable = false)
+    private long uniqueViewCount = 0;
+
+    // 관심(찜) 수. interests 행 수를 매번 세지 않도록 InterestService가 SQL로 +-1 하고 InterestCountReconciler가 주기적으로 보정한다.
+    @Column(name = "interest_count", columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int interestCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -82,8 +104,8 @@ public class StudyGroup {
     @OneToMany(mappedBy = "studyGroup", cascade = CascadeType.ALL, orphanRemoval = true)
     private final Set<StudyGroupTag> studyGroupTags = new HashSet<>();
 
-    // 댓글 연관관계 (스터디 삭제 시 댓글도 삭제)
-    @OneToMany(mappedBy = "studyGroup", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 댓글 연관관계 (스터디 삭제 시 댓글은 StudyGroupService에서 벌크 DELETE 한 번으로 삭제)
+    @OneToMany(mappedBy = "studyGroup")
     private final List<Comment> comments = new ArrayList<>();
 
     // 찜(Interest) 연관관계 (인기순 정렬을 위해 추가)
@@ -133,8 +155,4 @@ public class StudyGroup {
     public int getCurrentMemberCount() {
         return this.studyMembers.size();
     }
-
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
 }
\ No newline at end of file
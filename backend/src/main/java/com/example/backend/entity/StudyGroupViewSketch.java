@@ -0,0 +1,33 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 스터디 그룹 고유 조회자 HyperLogLog 스케치 (UniqueViewCounter가 JDBC로 기록)
+// - 일별 스케치와, view_date가 ALL_TIME인 전체 기간 누적 스케치를 함께 둔다.
+// - 일별 스케치는 합쳐서 기간별 고유 조회자 수를 구할 때 쓰고, 보관 기간이 지나면 지운다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(StudyGroupViewSketchId.class)
+@Table(name = "study_group_view_sketch",
+        indexes = @Index(name = "idx_study_group_view_sketch_view_date", columnList = "view_date"))
+public class StudyGroupViewSketch {
+
+    public static final LocalDate ALL_TIME = LocalDate.of(1970, 1, 1);
+
+    @Id
+    @Column(name = "study_group_id")
+    private Long studyGroupId;
+
+    @Id
+    @Column(name = "view_date")
+    private LocalDate viewDate;
+
+    @Column(name = "registers", nullable = false, length = 2048)
+    private byte[] registers;
+}
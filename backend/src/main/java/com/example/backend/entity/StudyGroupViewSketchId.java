@@ -0,0 +1,18 @@
+package com.example.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class StudyGroupViewSketchId implements Serializable {
+    private Long studyGroupId;
+    private LocalDate viewDate;
+}
@@ -0,0 +1,40 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 배치로 미리 계산한 사용자별 추천 순위 (RecommendationBatchJob이 JDBC 배치로 기록)
+// 그룹이 삭제되어도 배치 결과는 남을 수 있으므로 연관관계 없이 ID만 보관한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(UserRecommendationId.class)
+@Table(name = "user_recommendation",
+        indexes = @Index(name = "idx_user_recommendation_study_group", columnList = "study_group_id"))
+public class UserRecommendation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "rank_no")
+    private Integer rankNo;
+
+    @Column(name = "study_group_id", nullable = false)
+    private Long studyGroupId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "recruitment_deadline")
+    private LocalDate recruitmentDeadline;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class UserRecommendationId implements Serializable {
+    private Long userId;
+    private Integer rankNo;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.Application.ApplicationResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 스터디 신청 생성/상태 변경 이벤트 (커밋 이후 그룹장과 해당 신청자에게 실시간 전달)
+@Getter
+@RequiredArgsConstructor
+public class ApplicationChangedEvent {
+    private final Long studyGroupId;
+    private final String applicantEmail;
+    private final ApplicationResponseDto application;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.comment.CommentResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 댓글 작성 이벤트 (커밋 이후 실시간 구독자에게 전달)
+@Getter
+@RequiredArgsConstructor
+public class CommentCreatedEvent {
+    private final Long studyGroupId;
+    private final CommentResponseDto comment;
+}
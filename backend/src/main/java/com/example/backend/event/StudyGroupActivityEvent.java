@@ -0,0 +1,25 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스터디 그룹 조회/찜/신청/댓글 등 활동 이벤트 (커밋 이후 트렌딩 점수 갱신용)
+@Getter
+@RequiredArgsConstructor
+public class StudyGroupActivityEvent {
+
+    public enum Activity {
+        VIEW, INTEREST_ADDED, INTEREST_REMOVED, APPLICATION, COMMENT
+    }
+
+    private final Long studyGroupId;
+    private final Activity activity;
+    // INTEREST_REMOVED일 때 취소된 찜이 추가되었던 시각 (그때 더한 점수만큼만 되돌리기 위함). 그 외에는 null
+    private final LocalDateTime interestAddedAt;
+
+    public StudyGroupActivityEvent(Long studyGroupId, Activity activity) {
+        this(studyGroupId, activity, null);
+    }
+}
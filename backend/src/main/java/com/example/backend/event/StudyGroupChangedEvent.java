@@ -0,0 +1,17 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 스터디 그룹 생성/수정/삭제 이벤트 (트랜잭션 커밋 이후 인메모리 인덱스 갱신용)
+@Getter
+@RequiredArgsConstructor
+public class StudyGroupChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long studyGroupId;
+    private final Type type;
+}
@@ -0,0 +1,12 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 스터디 멤버 가입 등 사용자의 참여 스터디 목록이 바뀌었을 때 발행
+@Getter
+@RequiredArgsConstructor
+public class StudyMembershipChangedEvent {
+    private final Long userId;
+    private final Long studyGroupId;
+}
@@ -0,0 +1,12 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 새 태그가 저장되었을 때 발행 (커밋 이후 자동완성 인덱스에 추가)
+@Getter
+@RequiredArgsConstructor
+public class TagCreatedEvent {
+    private final Long tagId;
+    private final String name;
+}
@@ -0,0 +1,11 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 프로필(태그, 목표, 경력, 스타일, 지역, 닉네임) 변경 이벤트
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+    private final Long userId;
+}
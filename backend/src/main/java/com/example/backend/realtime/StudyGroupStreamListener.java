@@ -0,0 +1,35 @@
+package com.example.backend.realtime;
+
+import com.example.backend.event.ApplicationChangedEvent;
+import com.example.backend.event.CommentCreatedEvent;
+import com.example.backend.event.StudyGroupChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 댓글/신청 변경만 실시간 구독자에게 전달
+// 댓글은 그룹 구독자 모두에게, 신청은 그룹장과 해당 신청자에게만 보낸다.
+@Component
+@RequiredArgsConstructor
+public class StudyGroupStreamListener {
+
+    private final StudyGroupStreamRegistry streamRegistry;
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        streamRegistry.publish(event.getStudyGroupId(), "comment", event.getComment(), viewer -> true);
+    }
+
+    @TransactionalEventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        streamRegistry.publish(event.getStudyGroupId(), "application", event.getApplication(),
+                viewer -> viewer.leader() || event.getApplicantEmail().equals(viewer.email()));
+    }
+
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            streamRegistry.closeAll(event.getStudyGroupId());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.backend.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+// 스터디 그룹별 SSE 구독자 목록과 이벤트 전송
+// - 이벤트는 JSON으로 한 번만 직렬화한 뒤 구독자마다 크기가 제한된 버퍼에 넣기만 하므로, 발행하는 스레드는 네트워크 쓰기를 기다리지 않는다.
+// - 실제 전송은 전송 전용 스레드 풀이 구독자별로 한 번에 한 스레드씩 버퍼를 비우며 한다.
+// - 버퍼가 가득 찬(따라오지 못하는) 구독자는 연결을 끊는다. 클라이언트(EventSource)는 재연결 후 목록을 다시 조회하면 된다.
+// - 전송 하나가 sendTimeoutMillis를 넘기면 감시 스레드가 그 구독자를 떼어 내고 전송 스레드를 하나 보충한다.
+//   (send와 complete가 같은 emitter 모니터를 잡으므로 쓰기 중인 emitter는 쓰기가 끝난 직후 전송 스레드가 닫는다.)
+// - 유휴 연결은 서블릿 비동기 요청이라 스레드를 잡지 않으며, 주기적인 heartbeat 주석으로 프록시 타임아웃과 끊긴 연결을 정리한다.
+@Slf4j
+@Component
+public class StudyGroupStreamRegistry {
+
+    // 구독자 정보: 비로그인이면 email이 null
+    public record Viewer(String email, boolean leader) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService watchdog;
+
+    private final Map<Long, Set<Subscriber>> subscribersByGroup = new ConcurrentHashMap<>();
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+    public StudyGroupStreamRegistry(ObjectMapper objectMapper,
+                                    @Value("${realtime.emitter-timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${realtime.buffer-size:32}") int bufferSize,
+                                    @Value("${realtime.sender-threads:4}") int senderThreads,
+                                    @Value("${realtime.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        if (sendTimeoutMillis < 1) {
+            throw new IllegalArgumentException("SSE 전송 제한 시간은 1ms 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        int threads = Math.max(1, senderThreads);
+        this.sender = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                daemonThreads("sse-sender-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("sse-watchdog-"));
+        long checkInterval = Math.max(1, sendTimeoutMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::abortStalledSends, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long studyGroupId, Viewer viewer) {
+        return register(studyGroupId, viewer, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter register(long studyGroupId, Viewer viewer, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(studyGroupId, viewer, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // remove()가 빈 목록을 떼어 내는 것과 겹치지 않도록 compute 안에서 추가
+        subscribersByGroup.compute(studyGroupId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        // 첫 이벤트를 바로 보내 응답 헤더를 내려보낸다.
+        offer(subscriber, SseEmitter.event().name("connected").data(String.valueOf(studyGroupId)).build());
+        return emitter;
+    }
+
+    // audience를 만족하는 구독자에게 이벤트를 전달한다. 네트워크 쓰기는 전송 스레드에서 일어난다.
+    public void publish(long studyGroupId, String name, Object data, Predicate<Viewer> audience) {
+        Set<Subscriber> subscribers = subscribersByGroup.get(studyGroupId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> event;
+        try {
+            event = SseEmitter.event().name(name).data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            log.error("실시간 이벤트 직렬화 실패: {}", name, e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (audience.test(subscriber.viewer)) {
+                offer(subscriber, event);
+            }
+        }
+    }
+
+    // 삭제된 그룹의 연결을 모두 닫는다.
+    public void closeAll(long studyGroupId) {
+        Set<Subscriber> subscribers = subscribersByGroup.remove(studyGroupId);
+        if (subscribers != null) {
+            subscribers.forEach(this::close);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribersByGroup.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        subscribersByGroup.values().forEach(subscribers -> subscribers.forEach(subscriber -> offer(subscriber, heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByGroup.keySet().forEach(this::closeAll);
+        watchdog.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    // 제한 시간을 넘긴 전송이 있는 구독자를 떼어 내고, 막힌 스레드 대신 일할 전송 스레드를 하나 늘린다.
+    private void abortStalledSends() {
+        long now = System.nanoTime();
+        subscribersByGroup.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            // send가 끝나며 sendStartedAt을 지우는 것과 겹치지 않도록 구독자 단위로 잠근다.
+            synchronized (subscriber) {
+                long startedAt = subscriber.sendStartedAt;
+                if (startedAt == 0 || now - startedAt <= sendTimeoutNanos || subscriber.stalled) {
+                    return;
+                }
+                subscriber.stalled = true;
+                subscriber.closed = true;
+            }
+            log.debug("SSE 전송 제한 시간 초과로 구독자 연결 종료: 스터디 그룹 {}", subscriber.studyGroupId);
+            subscriber.buffer.clear();
+            remove(subscriber);
+            resizeSender(1);
+        }));
+    }
+
+    private synchronized void resizeSender(int delta) {
+        if (delta > 0) {
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+        } else {
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+        }
+    }
+
+    int senderPoolSize() {
+        return sender.getCorePoolSize();
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            log.debug("느린 SSE 구독자 연결 종료: 스터디 그룹 {}", subscriber.studyGroupId);
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false); // 종료 중
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> event;
+            while (!subscriber.closed && (event = subscriber.buffer.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                try {
+                    subscriber.emitter.send(event);
+                } finally {
+                    synchronized (subscriber) {
+                        subscriber.sendStartedAt = 0;
+                    }
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            remove(subscriber);
+            subscriber.closed = true;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 감시 스레드가 떼어 낸 구독자: 쓰기가 끝났으니 연결을 닫고 보충했던 스레드를 되돌린다.
+        if (subscriber.stalled) {
+            close(subscriber);
+            resizeSender(-1);
+            return;
+        }
+        // 플래그를 내린 사이에 들어온 이벤트가 있으면 다시 예약
+        if (!subscriber.closed && !subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.closed = true;
+        subscriber.buffer.clear();
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 완료됨
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByGroup.computeIfPresent(subscriber.studyGroupId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static final class Subscriber {
+        private final long studyGroupId;
+        private final Viewer viewer;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean stalled;
+        private volatile long sendStartedAt; // 진행 중인 send 시작 시각 (System.nanoTime), 없으면 0
+
+        private Subscriber(long studyGroupId, Viewer viewer, SseEmitter emitter, int bufferSize) {
+            this.studyGroupId = studyGroupId;
+            this.viewer = viewer;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.realtime;
+
+import com.example.backend.realtime.StudyGroupStreamRegistry.Viewer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+// 스터디 그룹 실시간 이벤트 구독
+// SSE 요청은 연결이 끊길 때까지 끝나지 않으므로, 여기서 JPA(트랜잭션)를 쓰면 open-in-view 때문에
+// DB 커넥션이 연결 내내 묶인다. 그래서 그룹장 확인은 JdbcTemplate으로 커넥션을 바로 돌려주는 조회 한 번으로 한다.
+@Service
+@RequiredArgsConstructor
+public class StudyGroupStreamService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StudyGroupStreamRegistry streamRegistry;
+
+    public SseEmitter subscribe(Long studyGroupId, UserDetails userDetails) {
+        List<String> creatorEmails = jdbcTemplate.queryForList(
+                "SELECT u.email FROM study_group g JOIN `user` u ON u.id = g.creator_id WHERE g.id = ?",
+                String.class, studyGroupId);
+        if (creatorEmails.isEmpty()) {
+            throw new IllegalArgumentException("스터디 그룹을 찾을 수 없습니다.");
+        }
+        String email = userDetails != null ? userDetails.getUsername() : null;
+        return streamRegistry.subscribe(studyGroupId, new Viewer(email, email != null && email.equals(creatorEmails.get(0))));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.entity.StudyGroupTag;
+import com.example.backend.entity.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 추천 후보 생성용 역색인 (태그 서수 -> 스터디 그룹 ID)
+// 목표 용어 역색인은 GoalIndex가 가지고 있으므로, 후보는 태그/목표 용어 역색인에서 만든다.
+// - 지역/학습 스타일은 값 종류가 적어 역색인 하나가 전체의 상당 부분이므로 후보 생성에 쓰지 않고 점수 계산에만 반영한다.
+// - 후보가 maxCandidates를 넘으면 겹치는 태그/목표 용어가 많은 그룹부터 maxCandidates개만 남겨, 이후 DB 조회와 점수 계산 비용이 전체 그룹 수와 무관하게 한다.
+// 그룹별 태그 비트셋도 함께 보관하여 태그 일치도 계산에 사용한다.
+@Component
+public class CandidateIndex {
+
+    private final GoalIndex goalIndex;
+    private final TagDictionary tagDictionary;
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Set<Long>> tagPostings = new HashMap<>();
+    private final Map<Long, TagBitset> indexedTags = new HashMap<>();
+
+    public CandidateIndex(GoalIndex goalIndex,
+                          TagDictionary tagDictionary,
+                          @Value("${recommendation.candidates.max:2000}") int maxCandidates) {
+        if (maxCandidates < 1) {
+            throw new IllegalArgumentException("추천 후보 최대 개수는 1 이상이어야 합니다.");
+        }
+        this.goalIndex = goalIndex;
+        this.tagDictionary = tagDictionary;
+        this.maxCandidates = maxCandidates;
+    }
+
+    public void rebuild(Collection<StudyGroup> studyGroups) {
+        lock.writeLock().lock();
+        try {
+            tagPostings.clear();
+            indexedTags.clear();
+            studyGroups.forEach(this::addGroup);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(StudyGroup studyGroup) {
+        lock.writeLock().lock();
+        try {
+            removeGroup(studyGroup.getId());
+            addGroup(studyGroup);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyGroupId) {
+        lock.writeLock().lock();
+        try {
+            removeGroup(studyGroupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 그룹의 태그 비트셋. 아직 색인되지 않은 그룹이면 null
+    public TagBitset tagsOf(Long studyGroupId) {
+        lock.readLock().lock();
+        try {
+            return indexedTags.get(studyGroupId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TagBitset toBitset(Collection<Tag> tags) {
+        int[] ordinals = new int[tags.size()];
+        int length = 0;
+        for (Tag tag : tags) {
+            ordinals[length++] = tagDictionary.ordinalOf(tag);
+        }
+        return TagBitset.of(ordinals, length);
+    }
+
+    // 태그 또는 목표 용어가 하나라도 겹치는 그룹 ID. 최대 maxCandidates개 (겹치는 수가 많은 순, 같으면 ID 순)
+    public Set<Long> findCandidates(RecommendationQuery query) {
+        Set<Long> goalCandidates = new HashSet<>();
+        goalIndex.collectCandidates(query.goalVector(), goalCandidates);
+
+        Map<Long, Integer> hits = new HashMap<>();
+        goalCandidates.forEach(id -> hits.merge(id, 1, Integer::sum));
+        lock.readLock().lock();
+        try {
+            query.tags().forEach(ordinal ->
+                    tagPostings.getOrDefault(ordinal, Collections.emptySet()).forEach(id -> hits.merge(id, 1, Integer::sum)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (hits.size() <= maxCandidates) {
+            return new HashSet<>(hits.keySet());
+        }
+
+        // 겹치는 수 상위 maxCandidates개 (최소 힙)
+        Comparator<Map.Entry<Long, Integer>> byHits = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(maxCandidates + 1, byHits);
+        for (Map.Entry<Long, Integer> entry : hits.entrySet()) {
+            top.offer(entry);
+            if (top.size() > maxCandidates) {
+                top.poll();
+            }
+        }
+        Set<Long> candidates = new HashSet<>(maxCandidates * 2);
+        top.forEach(entry -> candidates.add(entry.getKey()));
+        return candidates;
+    }
+
+    private void addGroup(StudyGroup studyGroup) {
+        Long id = studyGroup.getId();
+        TagBitset tags = toBitset(studyGroup.getStudyGroupTags().stream()
+                .map(StudyGroupTag::getTag)
+                .toList());
+        tags.forEach(ordinal -> tagPostings.computeIfAbsent(ordinal, k -> new HashSet<>()).add(id));
+        indexedTags.put(id, tags);
+    }
+
+    private void removeGroup(Long studyGroupId) {
+        TagBitset tags = indexedTags.remove(studyGroupId);
+        if (tags == null) {
+            return;
+        }
+        tags.forEach(ordinal -> {
+            Set<Long> groupIds = tagPostings.get(ordinal);
+            if (groupIds != null && groupIds.remove(studyGroupId) && groupIds.isEmpty()) {
+                tagPostings.remove(ordinal);
+            }
+        });
+    }
+}
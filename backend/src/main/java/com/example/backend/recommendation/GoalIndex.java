@@ -0,0 +1,321 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.text.TokenBuffer;
+import com.example.backend.text.Tokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 스터디 그룹 목표(goal) 텍스트의 TF-IDF 인덱스
+// - 그룹별 TF와 전체 문서 빈도(DF)를 메모리에 유지하고, 그룹 생성/수정/삭제 시 해당 그룹만 다시 토큰화하고 가중치를 매긴다.
+// - 문서 수가 바뀌면 모든 IDF가 조금씩 달라지지만, 다른 그룹의 가중치 벡터는 그대로 두고(약간 오래된 IDF)
+//   refreshWeights()가 주기적으로 잠금 밖에서 새 벡터 맵을 만들어 교체한다. 추천 요청은 전체 재계산을 기다리지 않는다.
+// - 용어는 TermDictionary의 정수 ID로, 벡터는 SparseVector(int[]/float[])로 보관한다.
+// - 후보 생성을 위해 용어 ID -> 그룹 ID 역색인(postings)도 함께 유지한다.
+// - 근사 모드(recommendation.goal.lsh.enabled)에서는 역색인 대신 MinHash LSH 버킷으로 후보를 찾는다.
+//   흔한 용어 하나만 겹쳐도 후보가 되는 역색인과 달리, 목표가 충분히 비슷한 그룹만 후보가 된다.
+@Component
+public class GoalIndex {
+
+    private static final long LSH_SEED = 0x5EED_1234L; // 재시작해도 같은 시그니처가 나오도록 고정
+
+    private static final ThreadLocal<TokenBuffer> TOKEN_BUFFERS = ThreadLocal.withInitial(TokenBuffer::new);
+
+    private final TermDictionary termDictionary;
+    private final MinHashLsh lsh; // 근사 모드가 아니면 null
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, SparseVector> termFrequencies = new HashMap<>();
+    private Map<Long, SparseVector> vectors = new HashMap<>(); // refreshWeights()가 통째로 교체
+    private final List<Set<Long>> postings = new ArrayList<>();
+    private int[] documentFrequencies = new int[0];
+    private int documentCount = 0;
+
+    private boolean idfDrifted = false; // 마지막 전체 가중치 계산 이후 문서가 바뀌었는지
+    private boolean refreshing = false;
+    private final Set<Long> changedDuringRefresh = new HashSet<>(); // 새 맵으로 교체하기 전에 현재 벡터로 덮어쓸 그룹
+    private long rebuildGeneration = 0; // 갱신 도중 rebuild()가 끼어들면 만든 맵을 버린다.
+
+    public GoalIndex(TermDictionary termDictionary,
+                     @Value("${recommendation.goal.lsh.enabled:false}") boolean lshEnabled,
+                     @Value("${recommendation.goal.lsh.bands:20}") int lshBands,
+                     @Value("${recommendation.goal.lsh.rows:1}") int lshRows) {
+        this.termDictionary = termDictionary;
+        this.lsh = lshEnabled ? new MinHashLsh(lshBands, lshRows, LSH_SEED) : null;
+    }
+
+    // 전체 스터디 그룹으로 인덱스 재구성 (애플리케이션 시작 시)
+    public void rebuild(Collection<StudyGroup> studyGroups) {
+        lock.writeLock().lock();
+        try {
+            termFrequencies.clear();
+            postings.clear();
+            if (lsh != null) {
+                lsh.clear();
+            }
+            documentFrequencies = new int[termDictionary.size()];
+            documentCount = 0;
+            for (StudyGroup studyGroup : studyGroups) {
+                addDocument(studyGroup.getId(), studyGroup.getGoal());
+            }
+            vectors = weighAll(termFrequencies, idfTable());
+            idfDrifted = false;
+            rebuildGeneration++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 그룹 생성/수정 시 호출: 기존 문서를 빼고 새 목표 텍스트로 다시 넣는다. 가중치는 이 그룹 것만 현재 IDF로 계산한다.
+    public void upsert(Long studyGroupId, String goal) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(studyGroupId);
+            SparseVector tf = addDocument(studyGroupId, goal);
+            if (tf.size() > 0) {
+                vectors.put(studyGroupId, weigh(tf));
+            }
+            documentChanged(studyGroupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyGroupId) {
+        lock.writeLock().lock();
+        try {
+            if (removeDocument(studyGroupId)) {
+                documentChanged(studyGroupId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 사용자 목표 텍스트를 현재 IDF 기준의 TF-IDF 벡터로 변환 (요청당 토큰화는 이것 하나뿐)
+    // 사전에 없는 용어는 어떤 그룹과도 겹치지 않으므로 벡터에는 넣지 않고 노름에만 반영한다.
+    public SparseVector vectorize(String text) {
+        TokenBuffer tokens = tokenize(text);
+        if (tokens.isEmpty()) {
+            return SparseVector.EMPTY;
+        }
+        int[] ids = new int[tokens.size()];
+        Map<String, Integer> unknownCounts = null;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = termDictionary.find(tokens.get(i));
+            if (ids[i] == TermDictionary.UNKNOWN) {
+                if (unknownCounts == null) {
+                    unknownCounts = new HashMap<>();
+                }
+                unknownCounts.merge(tokens.get(i), 1, Integer::sum);
+            }
+        }
+        SparseVector tf = SparseVector.termFrequencies(ids, ids.length);
+
+        lock.readLock().lock();
+        try {
+            float[] weights = new float[tf.size()];
+            int[] termIds = new int[tf.size()];
+            double squaredNorm = 0.0;
+            for (int i = 0; i < tf.size(); i++) {
+                termIds[i] = tf.termIdAt(i);
+                weights[i] = (float) (tf.weightAt(i) * idf(termIds[i]));
+                squaredNorm += (double) weights[i] * weights[i];
+            }
+            if (unknownCounts != null) {
+                double unknownIdf = idf(TermDictionary.UNKNOWN);
+                for (int count : unknownCounts.values()) {
+                    squaredNorm += (count * unknownIdf) * (count * unknownIdf);
+                }
+            }
+            return new SparseVector(termIds, weights, (float) Math.sqrt(squaredNorm));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 벡터와 그룹 벡터의 코사인 유사도
+    public double similarity(SparseVector userVector, StudyGroup studyGroup) {
+        if (userVector.isEmpty()) {
+            return 0.0;
+        }
+        lock.readLock().lock();
+        try {
+            if (termFrequencies.containsKey(studyGroup.getId())) {
+                SparseVector groupVector = vectors.get(studyGroup.getId());
+                return groupVector == null ? 0.0 : userVector.cosineSimilarity(groupVector);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 아직 인덱스에 반영되지 않은 그룹(커밋 직후 등)은 즉석에서 계산
+        return userVector.cosineSimilarity(vectorize(studyGroup.getGoal()));
+    }
+
+    // 사용자 목표 용어 중 하나라도 포함하는 그룹 ID를 candidates에 추가 (근사 모드에서는 LSH 버킷이 겹치는 그룹만)
+    public void collectCandidates(SparseVector userVector, Set<Long> candidates) {
+        lock.readLock().lock();
+        try {
+            if (lsh != null) {
+                lsh.collect(userVector, candidates);
+                return;
+            }
+            for (int i = 0; i < userVector.size(); i++) {
+                int termId = userVector.termIdAt(i);
+                if (termId < postings.size()) {
+                    candidates.addAll(postings.get(termId));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 바뀐 그룹이 있으면 현재 IDF로 모든 그룹의 가중치 벡터를 다시 계산해 교체한다.
+    // TF 스냅샷은 읽기 잠금으로 복사하고(조회는 막지 않음) 벡터 계산은 잠금 밖에서 한다.
+    // 계산 도중 바뀐 그룹은 쓰기 잠금 안에서 현재 벡터로 덮어쓴 뒤 교체하므로, 쓰기 잠금은 바뀐 그룹 수만큼만 잡는다.
+    @Scheduled(fixedDelayString = "${recommendation.goal.idf-refresh-ms:60000}")
+    public synchronized void refreshWeights() {
+        long generation;
+        lock.writeLock().lock();
+        try {
+            if (!idfDrifted) {
+                return;
+            }
+            idfDrifted = false;
+            refreshing = true;
+            changedDuringRefresh.clear();
+            generation = rebuildGeneration;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, SparseVector> snapshot;
+        float[] idfByTermId;
+        lock.readLock().lock();
+        try {
+            snapshot = new HashMap<>(termFrequencies);
+            idfByTermId = idfTable();
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Long, SparseVector> refreshed = weighAll(snapshot, idfByTermId);
+
+        lock.writeLock().lock();
+        try {
+            refreshing = false;
+            if (generation != rebuildGeneration) {
+                return;
+            }
+            for (Long studyGroupId : changedDuringRefresh) {
+                SparseVector current = vectors.get(studyGroupId);
+                if (current == null) {
+                    refreshed.remove(studyGroupId);
+                } else {
+                    refreshed.put(studyGroupId, current);
+                }
+            }
+            changedDuringRefresh.clear();
+            vectors = refreshed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void documentChanged(Long studyGroupId) {
+        idfDrifted = true;
+        if (refreshing) {
+            changedDuringRefresh.add(studyGroupId);
+        }
+    }
+
+    private static Map<Long, SparseVector> weighAll(Map<Long, SparseVector> termFrequencies, float[] idfByTermId) {
+        Map<Long, SparseVector> weighted = new HashMap<>(termFrequencies.size() * 2);
+        for (Map.Entry<Long, SparseVector> document : termFrequencies.entrySet()) {
+            if (document.getValue().size() > 0) {
+                weighted.put(document.getKey(), document.getValue().scale(idfByTermId));
+            }
+        }
+        return weighted;
+    }
+
+    private float[] idfTable() {
+        float[] idfByTermId = new float[documentFrequencies.length];
+        for (int termId = 0; termId < idfByTermId.length; termId++) {
+            idfByTermId[termId] = (float) idf(termId);
+        }
+        return idfByTermId;
+    }
+
+    // 한 그룹의 TF를 현재 IDF로 가중 (그룹의 용어 수만큼만 계산)
+    private SparseVector weigh(SparseVector tf) {
+        int[] termIds = new int[tf.size()];
+        float[] weights = new float[tf.size()];
+        for (int i = 0; i < tf.size(); i++) {
+            termIds[i] = tf.termIdAt(i);
+            weights[i] = tf.weightAt(i) * (float) idf(termIds[i]);
+        }
+        return new SparseVector(termIds, weights);
+    }
+
+    // IDF = log((전체 문서 수 + 사용자 문서 1) / (1 + DF))
+    private double idf(int termId) {
+        int df = termId >= 0 && termId < documentFrequencies.length ? documentFrequencies[termId] : 0;
+        return Math.log((double) (documentCount + 1) / (1 + df));
+    }
+
+    private SparseVector addDocument(Long studyGroupId, String goal) {
+        TokenBuffer tokens = tokenize(goal);
+        int[] ids = new int[tokens.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = termDictionary.intern(tokens.get(i));
+        }
+        SparseVector tf = SparseVector.termFrequencies(ids, ids.length);
+
+        if (termDictionary.size() > documentFrequencies.length) {
+            documentFrequencies = Arrays.copyOf(documentFrequencies, Math.max(termDictionary.size(), documentFrequencies.length * 2));
+        }
+        while (postings.size() < termDictionary.size()) {
+            postings.add(new HashSet<>());
+        }
+        for (int i = 0; i < tf.size(); i++) {
+            documentFrequencies[tf.termIdAt(i)]++;
+            postings.get(tf.termIdAt(i)).add(studyGroupId);
+        }
+        termFrequencies.put(studyGroupId, tf);
+        if (lsh != null) {
+            lsh.add(studyGroupId, tf);
+        }
+        documentCount++;
+        return tf;
+    }
+
+    private boolean removeDocument(Long studyGroupId) {
+        SparseVector previous = termFrequencies.remove(studyGroupId);
+        if (previous == null) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            documentFrequencies[previous.termIdAt(i)]--;
+            postings.get(previous.termIdAt(i)).remove(studyGroupId);
+        }
+        vectors.remove(studyGroupId);
+        if (lsh != null) {
+            lsh.remove(studyGroupId);
+        }
+        documentCount--;
+        return true;
+    }
+
+    // 현재 스레드의 재사용 버퍼에 토큰화 (다음 tokenize 호출 전까지만 유효)
+    private static TokenBuffer tokenize(String text) {
+        TokenBuffer buffer = TOKEN_BUFFERS.get();
+        Tokenizer.WORDS.tokenize(text, buffer);
+        return buffer;
+    }
+}
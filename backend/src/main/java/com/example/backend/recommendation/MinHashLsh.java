@@ -0,0 +1,109 @@
+package com.example.backend.recommendation;
+
+import java.util.*;
+
+// 용어 집합의 MinHash 시그니처 + 밴드 LSH 버킷
+// - 시그니처 길이 = bands * rows. 두 문서의 자카드 유사도가 s일 때 한 밴드 이상 겹칠 확률은 1 - (1 - s^rows)^bands
+//   (bands를 늘리거나 rows를 줄이면 재현율이 오르고 후보 수도 늘어난다.)
+// - 조회는 밴드 수만큼의 해시 조회이므로 전체 문서 수와 무관하다.
+// - 스레드 안전하지 않음 (GoalIndex의 락 안에서만 사용)
+public class MinHashLsh {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final List<Map<Long, Set<Long>>> buckets;
+    private final Map<Long, int[]> signatures = new HashMap<>();
+
+    public MinHashLsh(int bands, int rows, long seed) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("LSH bands와 rows는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new SplittableRandom(seed).longs(bands * rows).toArray();
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    // 용어 ID 집합(가중치 무시)의 MinHash 시그니처. 용어가 없으면 null
+    public int[] signature(SparseVector terms) {
+        if (terms.size() == 0) {
+            return null;
+        }
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int i = 0; i < terms.size(); i++) {
+            long termId = terms.termIdAt(i);
+            for (int h = 0; h < seeds.length; h++) {
+                int value = (int) (mix(termId ^ seeds[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public void add(long id, SparseVector terms) {
+        int[] signature = signature(terms);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), k -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+            long key = bandKey(signature, band);
+            Set<Long> ids = bandBuckets.get(key);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                bandBuckets.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        signatures.clear();
+        buckets.forEach(Map::clear);
+    }
+
+    // 한 밴드 이상 같은 버킷에 들어가는 문서 ID를 out에 추가
+    public void collect(SparseVector terms, Set<Long> out) {
+        int[] signature = signature(terms);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            Set<Long> ids = buckets.get(band).get(bandKey(signature, band));
+            if (ids != null) {
+                out.addAll(ids);
+            }
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = 0;
+        for (int row = band * rows, end = row + rows; row < end; row++) {
+            key = key * 0x100000001B3L + signature[row];
+        }
+        return mix(key);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
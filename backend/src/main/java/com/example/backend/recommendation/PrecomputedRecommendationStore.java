@@ -0,0 +1,106 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.User;
+import com.example.backend.entity.UserRecommendation;
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.event.UserProfileChangedEvent;
+import com.example.backend.repository.UserRecommendationRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// user_recommendation 테이블 (배치로 미리 계산한 추천 순위) 읽기/쓰기
+// - 배치 이후 프로필이 바뀐 사용자의 결과는 사용하지 않는다. (조회 시 null -> 즉시 계산)
+// - 스터디 그룹 삭제, 프로필 변경 시에는 해당 행을 바로 지운다.
+@Component
+public class PrecomputedRecommendationStore {
+
+    private static final String INSERT_SQL = "INSERT INTO user_recommendation " +
+            "(user_id, rank_no, study_group_id, score, recruitment_deadline, computed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRecommendationRepository userRecommendationRepository;
+
+    @Getter
+    private final int topN;
+
+    public PrecomputedRecommendationStore(JdbcTemplate jdbcTemplate,
+                                          UserRecommendationRepository userRecommendationRepository,
+                                          @Value("${recommendation.batch.top-n:100}") int topN) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRecommendationRepository = userRecommendationRepository;
+        this.topN = topN;
+    }
+
+    // 미리 계산된 순위. 없거나 계산 이후 프로필이 바뀌었으면 null
+    public RecommendationCache.CachedRecommendations load(User user) {
+        List<UserRecommendation> rows = userRecommendationRepository.findByUserIdOrderByRankNo(user.getId());
+        if (rows.isEmpty()) {
+            return null;
+        }
+        LocalDateTime computedAt = rows.get(0).getComputedAt();
+        if (user.getUpdatedAt() != null && user.getUpdatedAt().isAfter(computedAt)) {
+            return null;
+        }
+        List<RecommendationCache.Entry> entries = new ArrayList<>(rows.size());
+        for (UserRecommendation row : rows) {
+            entries.add(new RecommendationCache.Entry(row.getStudyGroupId(), row.getScore(), row.getRecruitmentDeadline()));
+        }
+        // topN개가 가득 찼으면 그 뒤 순위가 더 있을 수 있음
+        return new RecommendationCache.CachedRecommendations(entries, rows.size() >= topN);
+    }
+
+    // 청크에 포함된 사용자들의 기존 결과를 지우고 새 결과를 JDBC 배치로 기록 (호출 측 트랜잭션 안에서 실행)
+    public int replace(Collection<Long> userIds, Map<Long, RecommendationCache.CachedRecommendations> results,
+                       LocalDateTime computedAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.update("DELETE FROM user_recommendation WHERE user_id IN (" + placeholders(userIds.size()) + ")",
+                userIds.toArray());
+
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp computedAtTimestamp = Timestamp.valueOf(computedAt);
+        for (Map.Entry<Long, RecommendationCache.CachedRecommendations> result : results.entrySet()) {
+            List<RecommendationCache.Entry> entries = result.getValue().entries();
+            for (int rank = 0; rank < entries.size() && rank < topN; rank++) {
+                RecommendationCache.Entry entry = entries.get(rank);
+                rows.add(new Object[]{
+                        result.getKey(),
+                        rank,
+                        entry.studyGroupId(),
+                        entry.score(),
+                        entry.recruitmentDeadline() != null ? Date.valueOf(entry.recruitmentDeadline()) : null,
+                        computedAtTimestamp
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows,
+                new int[]{Types.BIGINT, Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.DATE, Types.TIMESTAMP});
+        return rows.size();
+    }
+
+    @TransactionalEventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        jdbcTemplate.update("DELETE FROM user_recommendation WHERE user_id = ?", event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            jdbcTemplate.update("DELETE FROM user_recommendation WHERE study_group_id = ?", event.getStudyGroupId());
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
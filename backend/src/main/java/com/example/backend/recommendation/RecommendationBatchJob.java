@@ -0,0 +1,144 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.RecommendationBatchCheckpoint;
+import com.example.backend.entity.User;
+import com.example.backend.repository.RecommendationBatchCheckpointRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.RecommendationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 전체 사용자의 추천 순위를 미리 계산하여 user_recommendation 테이블에 기록하는 배치
+// - 사용자 ID 순으로 chunkSize명씩 처리하고, 청크마다 결과와 체크포인트를 한 트랜잭션으로 커밋한다.
+// - 이전 실행이 끝나지 않았으면(finished_at이 null) 마지막 체크포인트 이후부터 이어서 처리한다.
+// - 처리량(users/sec)은 로그와 recommendation.batch.* 메트릭으로 남긴다.
+@Slf4j
+@Component
+public class RecommendationBatchJob {
+
+    private static final String JOB_NAME = "user-recommendation";
+
+    private final UserRepository userRepository;
+    private final RecommendationBatchCheckpointRepository checkpointRepository;
+    private final RecommendationService recommendationService;
+    private final PrecomputedRecommendationStore precomputedStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastThroughput = new AtomicLong(); // users/sec (마지막 실행)
+    private final Counter processedUsers;
+
+    public RecommendationBatchJob(UserRepository userRepository,
+                                  RecommendationBatchCheckpointRepository checkpointRepository,
+                                  RecommendationService recommendationService,
+                                  PrecomputedRecommendationStore precomputedStore,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${recommendation.batch.chunk-size:200}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.recommendationService = recommendationService;
+        this.precomputedStore = precomputedStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+
+        this.processedUsers = Counter.builder("recommendation.batch.users").register(meterRegistry);
+        Gauge.builder("recommendation.batch.throughput", lastThroughput, AtomicLong::get)
+                .baseUnit("users/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${recommendation.batch.cron:0 0 4 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("추천 배치가 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            execute();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void execute() {
+        RecommendationBatchCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            RecommendationBatchCheckpoint current = checkpointRepository.findById(JOB_NAME)
+                    .orElseGet(() -> new RecommendationBatchCheckpoint(JOB_NAME));
+            if (current.isRunning() && current.getLastUserId() > 0) {
+                log.info("추천 배치 재개: 사용자 ID {} 이후부터 ({}명 처리됨)", current.getLastUserId(), current.getProcessedUsers());
+            } else {
+                current.start();
+            }
+            return checkpointRepository.save(current);
+        });
+
+        long startNanos = System.nanoTime();
+        long usersThisRun = 0;
+        Long lastUserId = checkpoint.getLastUserId();
+
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(lastUserId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            processChunk(userIds);
+            lastUserId = userIds.get(userIds.size() - 1);
+            usersThisRun += userIds.size();
+            processedUsers.increment(userIds.size());
+
+            if (log.isDebugEnabled()) {
+                log.debug("추천 배치 진행: 사용자 ID {}까지, {}명, {} users/sec",
+                        lastUserId, usersThisRun, throughput(usersThisRun, startNanos));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(JOB_NAME)
+                .ifPresent(RecommendationBatchCheckpoint::finish));
+
+        long usersPerSecond = throughput(usersThisRun, startNanos);
+        lastThroughput.set(usersPerSecond);
+        log.info("추천 배치 완료: {}명, {}ms, {} users/sec",
+                usersThisRun, (System.nanoTime() - startNanos) / 1_000_000, usersPerSecond);
+    }
+
+    // 한 청크의 순위 계산 -> 기존 결과 교체 -> 체크포인트 갱신을 한 트랜잭션으로 처리
+    private void processChunk(List<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 계산 시작 시각을 기록해 두어, 계산 도중 프로필을 바꾼 사용자는 조회 시 즉시 계산으로 넘어가게 한다.
+            LocalDateTime computedAt = LocalDateTime.now();
+            List<User> users = userRepository.findAllWithDetailsByIdIn(userIds);
+
+            Map<Long, RecommendationCache.CachedRecommendations> results = new HashMap<>();
+            for (User user : users) {
+                results.put(user.getId(), recommendationService.precompute(
+                        user, recommendationService.excludedGroupIdsOf(user), precomputedStore.getTopN()));
+            }
+            precomputedStore.replace(userIds, results, computedAt);
+
+            checkpointRepository.findById(JOB_NAME)
+                    .ifPresent(checkpoint -> checkpoint.advance(userIds.get(userIds.size() - 1), userIds.size()));
+        });
+    }
+
+    private static long throughput(long users, long startNanos) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        return users * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.event.StudyMembershipChangedEvent;
+import com.example.backend.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 추천 순위(그룹 ID, 점수) 캐시 (LRU, 최대 사용자 수 제한)
+// - 프로필 변경, 참여 스터디 변경 시 해당 사용자만 무효화
+// - 스터디 그룹 생성/수정은 누구의 순위에든 끼어들 수 있으므로 전체 무효화, 삭제는 그 그룹을 가진 사용자만 무효화
+// - 모집 마감일은 항목마다 보관해 두고 조회 시 걸러낸다.
+// - 순위 계산은 잠금 밖에서 하므로, 계산 전에 generation()을 받아 두고 put에 넘긴다.
+//   그 사이 해당 사용자(또는 전체)가 무효화되었으면 계산 결과가 이미 낡았으므로 저장하지 않는다.
+@Component
+public class RecommendationCache {
+
+    private final int maxUsers;
+    private final Map<Long, CachedRecommendations> entries;
+    private final Map<Long, Set<Long>> usersByGroupId = new HashMap<>();
+
+    // 무효화 세대: 전체 무효화 횟수 + 사용자 ID를 나눈 구간별 무효화 횟수 (둘 다 증가만 하므로 합이 같으면 변경 없음)
+    private static final int GENERATION_STRIPES = 1024;
+    private final long[] userGenerations = new long[GENERATION_STRIPES];
+    private long globalGeneration;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public RecommendationCache(@Value("${recommendation.cache.max-users:10000}") int maxUsers,
+                               MeterRegistry meterRegistry) {
+        this.maxUsers = maxUsers;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRecommendations> eldest) {
+                if (size() > RecommendationCache.this.maxUsers) {
+                    unlinkGroups(eldest.getKey(), eldest.getValue());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("recommendation.cache.hits", hits, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("recommendation.cache.misses", misses, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("recommendation.cache.evictions", evictions, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("recommendation.cache.size", this, RecommendationCache::size).register(meterRegistry);
+        Gauge.builder("recommendation.cache.hit.ratio", this, RecommendationCache::hitRatio).register(meterRegistry);
+    }
+
+    public synchronized CachedRecommendations get(Long userId) {
+        CachedRecommendations cached = entries.get(userId);
+        if (cached == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    // 순위 계산 시작 전에 받아 두는 값
+    public synchronized long generation(Long userId) {
+        return globalGeneration + userGenerations[stripeOf(userId)];
+    }
+
+    // generation 이후 무효화가 있었다면 저장하지 않고 false 반환
+    public synchronized boolean put(Long userId, CachedRecommendations recommendations, long generation) {
+        if (generation(userId) != generation) {
+            return false;
+        }
+        CachedRecommendations previous = entries.put(userId, recommendations);
+        if (previous != null) {
+            unlinkGroups(userId, previous);
+        }
+        for (Entry entry : recommendations.entries()) {
+            usersByGroupId.computeIfAbsent(entry.studyGroupId(), k -> new HashSet<>()).add(userId);
+        }
+        return true;
+    }
+
+    public synchronized void invalidate(Long userId) {
+        userGenerations[stripeOf(userId)]++;
+        CachedRecommendations removed = entries.remove(userId);
+        if (removed != null) {
+            unlinkGroups(userId, removed);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        globalGeneration++;
+        entries.clear();
+        usersByGroupId.clear();
+    }
+
+    private void invalidateGroup(Long studyGroupId) {
+        Set<Long> userIds = usersByGroupId.remove(studyGroupId);
+        if (userIds != null) {
+            new ArrayList<>(userIds).forEach(this::invalidate);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            invalidateGroup(event.getStudyGroupId());
+        } else {
+            invalidateAll();
+        }
+    }
+
+    private void unlinkGroups(Long userId, CachedRecommendations recommendations) {
+        for (Entry entry : recommendations.entries()) {
+            Set<Long> userIds = usersByGroupId.get(entry.studyGroupId());
+            if (userIds != null && userIds.remove(userId) && userIds.isEmpty()) {
+                usersByGroupId.remove(entry.studyGroupId());
+            }
+        }
+    }
+
+    private static int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), GENERATION_STRIPES);
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private double hitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    // 순위순 항목 목록. truncated면 깊이 제한으로 잘린 것이므로 목록 뒤쪽 페이지는 다시 계산해야 한다.
+    public record CachedRecommendations(List<Entry> entries, boolean truncated) {
+    }
+
+    public record Entry(long studyGroupId, double score, LocalDate recruitmentDeadline) {
+
+        public boolean isClosed(LocalDate today) {
+            return recruitmentDeadline != null && recruitmentDeadline.isBefore(today);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.repository.StudyGroupRepository;
+import com.example.backend.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 추천용 인메모리 인덱스를 DB 상태와 동기화
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationIndexListener {
+
+    private final StudyGroupRepository studyGroupRepository;
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final GoalIndex goalIndex;
+    private final CandidateIndex candidateIndex;
+
+    // 애플리케이션 시작 시 전체 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndexes() {
+        tagDictionary.registerAll(tagRepository.findAll());
+        List<StudyGroup> studyGroups = studyGroupRepository.findAllWithTags();
+        goalIndex.rebuild(studyGroups);
+        candidateIndex.rebuild(studyGroups);
+        log.info("추천 인덱스 구성 완료: {}개 스터디 그룹", studyGroups.size());
+    }
+
+    // 스터디 그룹 변경이 커밋된 후에만 인덱스 반영
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            removeFromIndexes(event.getStudyGroupId());
+            return;
+        }
+        studyGroupRepository.findByIdWithTags(event.getStudyGroupId())
+                .ifPresentOrElse(
+                        studyGroup -> {
+                            goalIndex.upsert(studyGroup.getId(), studyGroup.getGoal());
+                            candidateIndex.upsert(studyGroup);
+                        },
+                        () -> removeFromIndexes(event.getStudyGroupId()));
+    }
+
+    private void removeFromIndexes(Long studyGroupId) {
+        goalIndex.remove(studyGroupId);
+        candidateIndex.remove(studyGroupId);
+    }
+}
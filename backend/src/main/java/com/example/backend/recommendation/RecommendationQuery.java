@@ -0,0 +1,7 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.User;
+
+// 추천 요청 한 번 동안 재사용하는 사용자 측 값 (목표 TF-IDF 벡터, 태그 비트셋)
+public record RecommendationQuery(User user, SparseVector goalVector, TagBitset tags) {
+}
@@ -0,0 +1,53 @@
+package com.example.backend.recommendation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+// 추천 점수 병렬 계산 전용 ForkJoinPool (공용 풀과 분리, 최대 스레드 수 제한)
+// 후보 수가 parallelThreshold 이상일 때만 사용한다.
+@Component
+public class RecommendationScoringPool {
+
+    private final ForkJoinPool pool;
+
+    @Getter
+    private final int parallelThreshold;
+
+    @Getter
+    private final int chunkSize;
+
+    public RecommendationScoringPool(
+            @Value("${recommendation.parallel.threshold:5000}") int parallelThreshold,
+            @Value("${recommendation.parallel.chunk-size:1024}") int chunkSize,
+            @Value("${recommendation.parallel.parallelism:0}") int parallelism) {
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = Math.max(1, chunkSize);
+
+        // 0이면 코어의 절반만 사용하여 다른 요청 스레드가 굶지 않도록 한다.
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(threads, RecommendationScoringPool::newWorker, null, false,
+                0, threads, 1, p -> true, 60, TimeUnit.SECONDS);
+    }
+
+    public <T> T invoke(ForkJoinTask<T> task) {
+        return pool.invoke(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("recommendation-scoring-" + thread.getPoolIndex());
+        return thread;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.common.CursorCodec;
+
+import java.util.Comparator;
+
+// 추천 점수와 그룹 ID 쌍. 순위는 점수 내림차순, 동점이면 ID 오름차순으로 고정한다.
+public record ScoredGroup(long studyGroupId, double score) {
+
+    public static final Comparator<ScoredGroup> RANKING = Comparator
+            .comparingDouble(ScoredGroup::score).reversed()
+            .thenComparingLong(ScoredGroup::studyGroupId);
+
+    // 순위상 (score, id) 위치보다 뒤에 오는지
+    public static boolean ranksAfter(double score, long studyGroupId, double cursorScore, long cursorId) {
+        int byScore = Double.compare(cursorScore, score);
+        return byScore > 0 || (byScore == 0 && studyGroupId > cursorId);
+    }
+
+    // 점수는 비트 단위로 인코딩하여 커서 비교 시 반올림 오차가 없도록 한다.
+    public String toCursor() {
+        return CursorCodec.encode(Long.toHexString(Double.doubleToLongBits(score)), studyGroupId);
+    }
+
+    public static ScoredGroup fromCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(parts[0], 16));
+            return new ScoredGroup(Long.parseLong(parts[1]), score);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
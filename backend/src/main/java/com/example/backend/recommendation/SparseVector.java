@@ -0,0 +1,117 @@
+package com.example.backend.recommendation;
+
+import java.util.Arrays;
+
+// 용어 ID 오름차순으로 정렬된 int[]/float[] 쌍으로 표현한 희소 벡터
+// L2 노름은 생성 시 한 번만 계산해 둔다.
+public final class SparseVector {
+
+    public static final SparseVector EMPTY = new SparseVector(new int[0], new float[0], 0f);
+
+    private final int[] termIds;
+    private final float[] weights;
+    private final float norm;
+
+    SparseVector(int[] termIds, float[] weights, float norm) {
+        this.termIds = termIds;
+        this.weights = weights;
+        this.norm = norm;
+    }
+
+    SparseVector(int[] termIds, float[] weights) {
+        this(termIds, weights, l2(weights));
+    }
+
+    // 정렬되지 않은(중복 포함) 용어 ID 배열로부터 TF 벡터 생성. UNKNOWN(음수) ID는 무시한다.
+    public static SparseVector termFrequencies(int[] rawTermIds, int length) {
+        int[] sorted = Arrays.copyOf(rawTermIds, length);
+        Arrays.sort(sorted);
+
+        int start = 0;
+        while (start < sorted.length && sorted[start] < 0) {
+            start++;
+        }
+        int distinct = 0;
+        for (int i = start; i < sorted.length; i++) {
+            if (i == start || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+
+        int[] ids = new int[distinct];
+        float[] counts = new float[distinct];
+        int pos = -1;
+        for (int i = start; i < sorted.length; i++) {
+            if (i == start || sorted[i] != sorted[i - 1]) {
+                ids[++pos] = sorted[i];
+            }
+            counts[pos]++;
+        }
+        return new SparseVector(ids, counts);
+    }
+
+    // 각 성분에 IDF 가중치를 곱한 새 벡터
+    public SparseVector scale(float[] idfByTermId) {
+        float[] scaled = new float[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            scaled[i] = weights[i] * idfByTermId[termIds[i]];
+        }
+        return new SparseVector(termIds, scaled);
+    }
+
+    // 두 정렬 배열을 병합하며 내적 계산 (할당 없음)
+    public float dot(SparseVector other) {
+        int[] a = termIds;
+        int[] b = other.termIds;
+        int i = 0;
+        int j = 0;
+        float sum = 0f;
+        while (i < a.length && j < b.length) {
+            int x = a[i];
+            int y = b[j];
+            if (x == y) {
+                sum += weights[i++] * other.weights[j++];
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    public double cosineSimilarity(SparseVector other) {
+        if (norm == 0f || other.norm == 0f) {
+            return 0.0;
+        }
+        return dot(other) / ((double) norm * other.norm);
+    }
+
+    public boolean isEmpty() {
+        return norm == 0f;
+    }
+
+    public int size() {
+        return termIds.length;
+    }
+
+    public int termIdAt(int index) {
+        return termIds[index];
+    }
+
+    public float weightAt(int index) {
+        return weights[index];
+    }
+
+    public float norm() {
+        return norm;
+    }
+
+    private static float l2(float[] values) {
+        double sum = 0.0;
+        for (float value : values) {
+            sum += (double) value * value;
+        }
+        return (float) Math.sqrt(sum);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.recommendation;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// 태그 서수 집합을 long[] 비트셋으로 표현. 교집합 크기는 AND + popcount로 계산한다.
+public final class TagBitset {
+
+    public static final TagBitset EMPTY = new TagBitset(new long[0], 0);
+
+    private final long[] words;
+    private final int cardinality;
+
+    private TagBitset(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    public static TagBitset of(int[] ordinals, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int max = 0;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, ordinals[i]);
+        }
+        long[] words = new long[(max >>> 6) + 1];
+        for (int i = 0; i < length; i++) {
+            words[ordinals[i] >>> 6] |= 1L << ordinals[i];
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return new TagBitset(words, cardinality);
+    }
+
+    // 공통 태그 수 (할당 없음)
+    public int intersectionSize(TagBitset other) {
+        int length = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TagBitset" + Arrays.toString(words);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.Tag;
+import com.example.backend.service.TagService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 태그 ID -> 0부터 시작하는 조밀한 정수 서수(ordinal) 사전
+// 정규화한 이름이 같은 태그는 같은 서수를 공유한다. 정규화는 태그당 최초 등록 시 한 번만 수행한다.
+@Component
+public class TagDictionary {
+
+    private final ConcurrentHashMap<Long, Integer> ordinalsByTagId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> ordinalsByName = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    public void registerAll(Collection<Tag> tags) {
+        tags.forEach(this::ordinalOf);
+    }
+
+    // 처음 보는 태그면 등록 후 서수 반환
+    public int ordinalOf(Tag tag) {
+        Integer ordinal = ordinalsByTagId.get(tag.getId());
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return ordinalsByTagId.computeIfAbsent(tag.getId(), id ->
+                ordinalsByName.computeIfAbsent(TagService.normalizeTagName(tag.getName()),
+                        name -> nextOrdinal.getAndIncrement()));
+    }
+
+    public int size() {
+        return nextOrdinal.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.recommendation;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 토큰 문자열 <-> 정수 ID 사전
+// ID는 0부터 순서대로 발급되며 재사용하지 않는다. (삭제된 그룹의 용어도 ID는 유지)
+@Component
+public class TermDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    // 없으면 새 ID 발급 (인덱싱 시 사용)
+    public int intern(String term) {
+        return ids.computeIfAbsent(term, t -> nextId.getAndIncrement());
+    }
+
+    // 조회 전용 (사용자 질의 등). 사전에 없으면 UNKNOWN
+    public int find(String term) {
+        Integer id = ids.get(term);
+        return id == null ? UNKNOWN : id;
+    }
+
+    public int size() {
+        return nextId.get();
+    }
+}
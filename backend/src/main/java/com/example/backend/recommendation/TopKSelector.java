@@ -0,0 +1,46 @@
+package com.example.backend.recommendation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 크기가 k로 제한된 최소 힙으로 상위 k개만 유지 (전체 정렬 O(n log n) 대신 O(n log k))
+// 힙의 루트는 현재 보관 중인 것 중 순위가 가장 낮은 항목이다.
+public class TopKSelector {
+
+    private final int k;
+    private final PriorityQueue<ScoredGroup> heap;
+
+    public TopKSelector(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), ScoredGroup.RANKING.reversed());
+    }
+
+    // 힙이 가득 찼고 루트보다 순위가 낮으면 객체를 만들지 않고 버린다.
+    public void offer(long studyGroupId, double score) {
+        if (k <= 0) {
+            return;
+        }
+        if (heap.size() >= k) {
+            ScoredGroup worst = heap.peek();
+            if (!ScoredGroup.ranksAfter(worst.score(), worst.studyGroupId(), score, studyGroupId)) {
+                return;
+            }
+            heap.poll();
+        }
+        heap.offer(new ScoredGroup(studyGroupId, score));
+    }
+
+    public void offerAll(TopKSelector other) {
+        for (ScoredGroup scoredGroup : other.heap) {
+            offer(scoredGroup.studyGroupId(), scoredGroup.score());
+        }
+    }
+
+    // 순위순(점수 내림차순, ID 오름차순) 결과
+    public List<ScoredGroup> toSortedList() {
+        List<ScoredGroup> result = new ArrayList<>(heap);
+        result.sort(ScoredGroup.RANKING);
+        return result;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Application;
+import com.example.backend.entity.ApplicationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -10,4 +16,16 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     List<Application> findAllByApplicantId(Long applicantId);
 
+    // 일괄 처리 대상 신청을 신청자와 함께 한 번에 조회 (다른 그룹의 신청은 제외)
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant WHERE a.studyGroup.id = :groupId AND a.id IN :ids")
+    List<Application> findAllWithApplicantByStudyGroupIdAndIdIn(@Param("groupId") Long groupId, @Param("ids") Collection<Long> ids);
+
+    // 대기 중인 신청만 상태를 바꾼다. 반환값이 대상 수보다 작으면 그 사이 다른 요청이 처리한 것
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status WHERE a.id IN :ids AND a.status = com.example.backend.entity.ApplicationStatus.PENDING")
+    int updatePendingStatus(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatus status);
+
+    // 트렌딩 점수 초기화용: since 이후 생성된 행의 (그룹 ID, 생성 시각)
+    @Query("SELECT a.studyGroup.id AS studyGroupId, a.createdAt AS createdAt FROM Application a WHERE a.createdAt >= :since")
+    List<StudyGroupActivityTime> findActivitySince(@Param("since") LocalDateTime since);
 }
@@ -1,11 +1,59 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 기존 메서드는 지우거나 둬도 되지만, 계층형 조회를 위해 아래 메서드를 사용합니다.
-    // 부모가 없는(Null) 댓글들만 최신순으로 조회
-    List<Comment> findAllByStudyGroupIdAndParentIsNullOrderByCreatedAtDesc(Long studyGroupId);
-}
\ No newline at end of file
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentSubtreeRepository {
+    // 최상위 댓글 keyset 페이지 (최신순, beforeId보다 작은 ID부터)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.studyGroup.id = :studyGroupId AND c.parent IS NULL AND c.id < :beforeId ORDER BY c.id DESC")
+    List<Comment> findRootPage(@Param("studyGroupId") Long studyGroupId, @Param("beforeId") long beforeId, Limit limit);
+
+    // 한 댓글의 답글 keyset 페이지 (오래된 순, afterId보다 큰 ID부터)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent.id = :parentId AND c.id > :afterId ORDER BY c.id ASC")
+    List<Comment> findReplyPage(@Param("parentId") Long parentId, @Param("afterId") long afterId, Limit limit);
+
+    // 여러 댓글의 답글을 부모마다 앞에서 perParent개씩 (오래된 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN (" +
+            "SELECT r.id FROM (SELECT o.id AS id, ROW_NUMBER() OVER (PARTITION BY o.parent.id ORDER BY o.id) AS rn " +
+            "FROM Comment o WHERE o.parent.id IN :parentIds) r WHERE r.rn <= :perParent) ORDER BY c.id ASC")
+    List<Comment> findFirstReplies(@Param("parentIds") Collection<Long> parentIds, @Param("perParent") int perParent);
+
+    // 답글 수를 부모 ID별로 한 번에 집계 (답글이 없는 부모는 결과에 없음)
+    @Query("SELECT c.parent.id AS parentId, COUNT(c) AS replyCount FROM Comment c " +
+            "WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<ReplyCount> countReplies(@Param("parentIds") Collection<Long> parentIds);
+
+    interface ReplyCount {
+        Long getParentId();
+        long getReplyCount();
+    }
+
+    // 하위 트리(자신 포함)를 경로 범위 한 번으로 스레드 순서(경로 순 = 깊이 우선)대로 afterPath 다음부터 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.path LIKE :pathPrefix AND c.path > :afterPath ORDER BY c.path ASC")
+    List<Comment> findSubtreePage(@Param("pathPrefix") String pathPrefix, @Param("afterPath") String afterPath, Limit limit);
+
+    // 하위 트리(자신 포함)를 경로 범위 DELETE 한 번으로 삭제
+    // 자식은 항상 부모보다 나중에 저장되어 ID가 크므로, ID 내림차순으로 지워 parent_id 외래 키를 어기지 않는다. (MySQL DELETE ... ORDER BY)
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE path LIKE :pathPrefix ORDER BY id DESC", nativeQuery = true)
+    int deleteSubtree(@Param("pathPrefix") String pathPrefix);
+
+    // 스터디 그룹의 댓글 전체를 DELETE 한 번으로 삭제 (순서는 deleteSubtree와 같은 이유)
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE study_group_id = :studyGroupId ORDER BY id DESC", nativeQuery = true)
+    int deleteAllByStudyGroupId(@Param("studyGroupId") Long studyGroupId);
+
+    // 트렌딩 점수 초기화용: since 이후 생성된 행의 (그룹 ID, 생성 시각)
+    @Query("SELECT c.studyGroup.id AS studyGroupId, c.createdAt AS createdAt FROM Comment c WHERE c.createdAt >= :since")
+    List<StudyGroupActivityTime> findActivitySince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,13 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Comment;
+
+import java.util.Collection;
+import java.util.Map;
+
+// 여러 댓글의 하위 트리 크기를 경로 범위 집계로 한 번에 조회 (CommentRepository에 합쳐짐)
+public interface CommentSubtreeRepository {
+
+    // 댓글 ID -> 하위 트리(자신 제외) 댓글 수. 경로가 없는 댓글은 결과에 없음
+    Map<Long, Long> countSubtrees(Collection<Comment> comments);
+}
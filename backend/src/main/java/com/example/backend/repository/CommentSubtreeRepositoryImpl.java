@@ -0,0 +1,44 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Comment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경로 접두사가 바인딩 값일 때만 path 인덱스 범위 조회가 되므로 (다른 행의 path와 조인하면 인덱스 전체를 훑는다)
+// 댓글마다 "path LIKE '경로_%'" 범위 COUNT를 만들어 UNION ALL 한 문장으로 보낸다.
+// 호출한 트랜잭션의 커넥션을 그대로 사용한다.
+@RequiredArgsConstructor
+class CommentSubtreeRepositoryImpl implements CommentSubtreeRepository {
+
+    private static final String COUNT_BRANCH = "SELECT ? AS comment_id, COUNT(*) AS descendant_count FROM comments WHERE path LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<Long, Long> countSubtrees(Collection<Comment> comments) {
+        List<String> branches = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (comment.getPath() == null) {
+                continue;
+            }
+            branches.add(COUNT_BRANCH);
+            args.add(comment.getId());
+            args.add(comment.getPath() + "_%"); // 자신보다 긴 경로 = 자손
+        }
+        Map<Long, Long> counts = new HashMap<>(branches.size() * 2);
+        if (branches.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(String.join(" UNION ALL ", branches), rs -> {
+            counts.put(rs.getLong("comment_id"), rs.getLong("descendant_count"));
+        }, args.toArray());
+        return counts;
+    }
+}
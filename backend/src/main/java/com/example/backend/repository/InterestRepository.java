@@ -4,6 +4,11 @@ import com.example.backend.entity.Interest;
 import com.example.backend.entity.StudyGroup;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,15 @@ public interface InterestRepository extends JpaRepository<Interest, Long> {
     // 찜 삭제를 위해 조회
     Optional<Interest> findByUserAndStudyGroup(User user, StudyGroup studyGroup);
 
+    // 찜 취소. 삭제된 행 수를 돌려주므로 동시에 두 번 취소해도 관심 수는 한 번만 줄어든다.
+    @Modifying
+    @Query("DELETE FROM Interest i WHERE i.user = :user AND i.studyGroup = :studyGroup")
+    int deleteByUserAndStudyGroup(@Param("user") User user, @Param("studyGroup") StudyGroup studyGroup);
+
     // 내가 찜한 목록 조회 (최신순)
     List<Interest> findAllByUserOrderByCreatedAtDesc(User user);
-}
\ No newline at end of file
+
+    // 트렌딩 점수 초기화용: since 이후 생성된 행의 (그룹 ID, 생성 시각)
+    @Query("SELECT i.studyGroup.id AS studyGroupId, i.createdAt AS createdAt FROM Interest i WHERE i.createdAt >= :since")
+    List<StudyGroupActivityTime> findActivitySince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.RecommendationBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RecommendationBatchCheckpointRepository extends JpaRepository<RecommendationBatchCheckpoint, String> {
+}
@@ -0,0 +1,9 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+
+// 트렌딩 점수 초기화용: 활동이 일어난 스터디 그룹과 시각
+public interface StudyGroupActivityTime {
+    Long getStudyGroupId();
+    LocalDateTime getCreatedAt();
+}
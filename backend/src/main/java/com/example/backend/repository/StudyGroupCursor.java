@@ -0,0 +1,44 @@
+package com.example.backend.repository;
+
+import com.example.backend.common.CursorCodec;
+import com.example.backend.entity.StudyGroup;
+
+import java.time.LocalDate;
+
+// 스터디 그룹 목록의 keyset 커서 (마지막 항목의 정렬 키 + ID)
+// 다음 페이지는 OFFSET 없이 "(정렬 키, ID)가 커서보다 뒤"인 행부터 인덱스 범위로 읽는다.
+// - LATEST: ID만, POPULAR: 관심 수, VIEW_COUNT: 조회수, UNIQUE_VIEW_COUNT: 고유 조회자 수, DEADLINE: 마감일(epoch day)
+// - 정렬 기준도 함께 넣어 다른 정렬의 커서를 섞어 쓰면 거부한다.
+public record StudyGroupCursor(StudyGroupSort sort, long key, long id) {
+
+    public static StudyGroupCursor of(StudyGroupSort sort, StudyGroup studyGroup) {
+        long key = switch (sort) {
+            case LATEST -> studyGroup.getId();
+            case POPULAR -> studyGroup.getInterestCount();
+            case VIEW_COUNT -> studyGroup.getViewCount();
+            case UNIQUE_VIEW_COUNT -> studyGroup.getUniqueViewCount();
+            case DEADLINE -> studyGroup.getRecruitmentDeadline().toEpochDay();
+        };
+        return new StudyGroupCursor(sort, key, studyGroup.getId());
+    }
+
+    public LocalDate deadline() {
+        return LocalDate.ofEpochDay(key);
+    }
+
+    public String toCursor() {
+        return CursorCodec.encode(sort.name(), key, id);
+    }
+
+    public static StudyGroupCursor fromCursor(String cursor, StudyGroupSort expectedSort) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!expectedSort.name().equals(parts[0])) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+        }
+        try {
+            return new StudyGroupCursor(expectedSort, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.StudyGroup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// 동적 조건 + 정렬 + LIMIT을 한 번의 쿼리로 실행하는 조회 (StudyGroupRepository에 합쳐짐)
+public interface StudyGroupQueryRepository {
+
+    // after가 있으면 그 커서 다음 행부터 (keyset 페이지네이션)
+    // 생성자는 목록 응답에 필요하므로 함께 조회한다.
+    List<StudyGroup> findAll(Specification<StudyGroup> spec, StudyGroupSort sort, StudyGroupCursor after, int limit);
+}
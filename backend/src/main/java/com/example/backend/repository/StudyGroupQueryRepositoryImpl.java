@@ -0,0 +1,71 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.StudyGroup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// JpaSpecificationExecutor로는 keyset 조건을 정렬과 맞춰 붙이기 어렵고 페이지 조회 시 count 쿼리가 따라붙으므로
+// Criteria 쿼리를 직접 만든다.
+class StudyGroupQueryRepositoryImpl implements StudyGroupQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudyGroup> findAll(Specification<StudyGroup> spec, StudyGroupSort sort, StudyGroupCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudyGroup> query = cb.createQuery(StudyGroup.class);
+        Root<StudyGroup> root = query.from(StudyGroup.class);
+        root.fetch("creator");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        Path<Long> id = root.get("id");
+        Path<Integer> interestCount = root.get("interestCount");
+        if (after != null) {
+            predicates.add(switch (sort) {
+                case LATEST -> cb.lessThan(id, after.id());
+                case POPULAR -> seekDescending(cb, interestCount, (int) after.key(), id, after.id());
+                case VIEW_COUNT -> seekDescending(cb, root.get("viewCount"), (int) after.key(), id, after.id());
+                case UNIQUE_VIEW_COUNT -> seekDescending(cb, root.get("uniqueViewCount"), after.key(), id, after.id());
+                case DEADLINE -> seekAscending(cb, root.get("recruitmentDeadline"), after.deadline(), id, after.id());
+            });
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        // 같은 값이면 ID로 순서를 고정한다. (커서 비교와 같은 순서)
+        query.orderBy(switch (sort) {
+            case POPULAR -> List.of(cb.desc(interestCount), cb.desc(id));
+            case DEADLINE -> List.of(cb.asc(root.get("recruitmentDeadline")), cb.asc(id));
+            case VIEW_COUNT -> List.of(cb.desc(root.get("viewCount")), cb.desc(id));
+            case UNIQUE_VIEW_COUNT -> List.of(cb.desc(root.get("uniqueViewCount")), cb.desc(id));
+            case LATEST -> List.of(cb.desc(id));
+        });
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // (key, id) < (value, cursorId)
+    private static <T extends Comparable<? super T>> Predicate seekDescending(CriteriaBuilder cb, Expression<T> key, T value,
+                                                                           Path<Long> id, long cursorId) {
+        return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, cursorId)));
+    }
+
+    // (key, id) > (value, cursorId)
+    private static <T extends Comparable<? super T>> Predicate seekAscending(CriteriaBuilder cb, Expression<T> key, T value,
+                                                                          Path<Long> id, long cursorId) {
+        return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, cursorId)));
+    }
+}
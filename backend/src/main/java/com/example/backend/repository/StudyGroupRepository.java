@@ -3,47 +3,90 @@ package com.example.backend.repository;
 import com.example.backend.entity.StudyGroup;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
+public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long>, StudyGroupQueryRepository {
     List<StudyGroup> findAllByCreator(User creator);
 
     @Query("SELECT sg FROM StudyGroup sg LEFT JOIN FETCH sg.studyGroupTags") // 👈 이거 추가!
     List<StudyGroup> findAllWithTags();
 
+    @Query("SELECT sg FROM StudyGroup sg LEFT JOIN FETCH sg.studyGroupTags sgt LEFT JOIN FETCH sgt.tag WHERE sg.id = :id")
+    Optional<StudyGroup> findByIdWithTags(@Param("id") Long id);
+
+    // 그룹장 권한 확인용 (그룹과 생성자를 엔티티로 읽지 않음)
+    @Query("SELECT u.email FROM StudyGroup sg JOIN sg.creator u WHERE sg.id = :id")
+    Optional<String> findCreatorEmailById(@Param("id") Long id);
+
+    // 검색 인덱스용: 태그 이름과 생성자 닉네임까지 함께 조회
+    @Query("SELECT DISTINCT sg FROM StudyGroup sg " +
+            "LEFT JOIN FETCH sg.studyGroupTags sgt " +
+            "LEFT JOIN FETCH sgt.tag " +
+            "LEFT JOIN FETCH sg.creator")
+    List<StudyGroup> findAllWithTagsAndCreator();
+
+    @Query("SELECT sg FROM StudyGroup sg " +
+            "LEFT JOIN FETCH sg.studyGroupTags sgt " +
+            "LEFT JOIN FETCH sgt.tag " +
+            "LEFT JOIN FETCH sg.creator " +
+            "WHERE sg.id = :id")
+    Optional<StudyGroup> findByIdWithTagsAndCreator(@Param("id") Long id);
+
+    // 자동완성 인덱스용: 제목과 관심 수
+    interface TitlePopularity {
+        Long getId();
+        String getTitle();
+        Integer getInterestCount();
+    }
+
+    @Query("SELECT sg.id AS id, sg.title AS title, sg.interestCount AS interestCount FROM StudyGroup sg")
+    List<TitlePopularity> findAllTitlePopularity();
+
+    @Query("SELECT sg.id AS id, sg.title AS title, sg.interestCount AS interestCount FROM StudyGroup sg WHERE sg.id = :id")
+    Optional<TitlePopularity> findTitlePopularityById(@Param("id") Long id);
+
     List<StudyGroup> findAllByRegion(String region);
 
     List<StudyGroup> findAllByRecruitmentDeadlineAfterOrderByRecruitmentDeadlineAsc(LocalDate date);
 
-    //  인기순: 찜(Interest) 많은 순
-    @Query("SELECT sg from StudyGroup sg ORDER BY SIZE(sg.interests) DESC")
-    List<StudyGroup> findAllOrderByPopularity(Pageable pageable);
-
-    // 지역별 + 최신순
-    List<StudyGroup> findAllByRegionOrderByIdDesc(String region);
+    // 인기순 ID만 조회 (추천 후보가 부족할 때 채우는 용도)
+    @Query("SELECT sg.id FROM StudyGroup sg ORDER BY sg.interestCount DESC, sg.id DESC")
+    List<Long> findIdsOrderByPopularity(Pageable pageable);
 
-    // 마감 임박순: 현재 날짜로부터 7일 이내인 스터디만 조회
-    List<StudyGroup> findAllByRecruitmentDeadlineBetweenOrderByRecruitmentDeadlineAsc(LocalDate start, LocalDate end);
+    // 관심 수 증감 (읽고 쓰지 않고 SQL 안에서 계산하여 동시 토글에도 값이 유실되지 않음)
+    @Modifying
+    @Query("UPDATE StudyGroup sg SET sg.interestCount = sg.interestCount + 1 WHERE sg.id = :id")
+    int incrementInterestCount(@Param("id") Long id);
 
-    // 지역별 + 마감 임박순
-    List<StudyGroup> findAllByRegionAndRecruitmentDeadlineBetweenOrderByRecruitmentDeadlineAsc(String region, LocalDate start, LocalDate end);
+    @Modifying
+    @Query("UPDATE StudyGroup sg SET sg.interestCount = sg.interestCount - 1 WHERE sg.id = :id AND sg.interestCount > 0")
+    int decrementInterestCount(@Param("id") Long id);
 
-    // 지역별 + 인기순
-    @Query("SELECT sg FROM StudyGroup sg WHERE sg.region = :region ORDER BY SIZE(sg.interests) DESC")
-    List<StudyGroup> findAllByRegionOrderByPopularity(@Param("region") String region, Pageable pageable);
+    // 관심 수 보정: (afterId, toId] 범위에서 실제 interests 행 수와 다른 그룹만 갱신
+    @Modifying
+    @Query(value = "UPDATE study_group sg " +
+            "LEFT JOIN (SELECT study_group_id, COUNT(*) AS actual FROM interests " +
+            "           WHERE study_group_id > :afterId AND study_group_id <= :toId GROUP BY study_group_id) c " +
+            "       ON c.study_group_id = sg.id " +
+            "SET sg.interest_count = COALESCE(c.actual, 0) " +
+            "WHERE sg.id > :afterId AND sg.id <= :toId AND sg.interest_count <> COALESCE(c.actual, 0)", nativeQuery = true)
+    int reconcileInterestCounts(@Param("afterId") long afterId, @Param("toId") long toId);
 
-    // 조회순 정렬
-    @Query("SELECT sg FROM StudyGroup sg ORDER BY sg.viewCount DESC")
-    List<StudyGroup> findAllOrderByViewCount(Pageable pageable);
+    // 트렌딩 점수 초기화용: since 이후 생성된 그룹
+    @Query("SELECT sg.id AS studyGroupId, sg.createdAt AS createdAt FROM StudyGroup sg WHERE sg.createdAt >= :since")
+    List<StudyGroupActivityTime> findCreatedSince(@Param("since") LocalDateTime since);
 
-    // 지역 + 조회순 정렬
-    @Query("SELECT sg FROM StudyGroup sg WHERE sg.region = :region ORDER BY sg.viewCount DESC")
-    List<StudyGroup> findAllByRegionOrderByViewCount(@Param("region") String region, Pageable pageable);
+    @Query("SELECT COALESCE(MAX(sg.id), 0) FROM StudyGroup sg")
+    long findMaxId();
 
     // 모든 스터디 그룹과 관련된 태그, 멤버 정보 등 세부사항을 FETCH JOIN
     @Query("SELECT DISTINCT sg FROM StudyGroup sg " +
@@ -53,4 +96,12 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
             "LEFT JOIN FETCH sm.user " +
             "LEFT JOIN FETCH sg.creator") // 스터디 생성자 정보도 함께 가져옴
     List<StudyGroup> findAllWithTagsAndDetails();
+
+    // 추천 후보 그룹만 태그, 생성자 정보와 함께 FETCH JOIN
+    @Query("SELECT DISTINCT sg FROM StudyGroup sg " +
+            "LEFT JOIN FETCH sg.studyGroupTags sgt " +
+            "LEFT JOIN FETCH sgt.tag " +
+            "LEFT JOIN FETCH sg.creator " +
+            "WHERE sg.id IN :ids")
+    List<StudyGroup> findAllWithTagsAndDetailsByIdIn(@Param("ids") Collection<Long> ids);
 }
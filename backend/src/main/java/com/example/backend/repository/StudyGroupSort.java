@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+// 스터디 그룹 목록 정렬 기준 (sort 파라미터 값)
+public enum StudyGroupSort {
+    LATEST,     // 최신순 (기본)
+    POPULAR,    // 인기순: 찜(Interest) 많은 순
+    DEADLINE,   // 마감 임박순
+    VIEW_COUNT, // 조회순
+    UNIQUE_VIEW_COUNT; // 고유 조회자순
+
+    public static StudyGroupSort from(String sort) {
+        if (sort == null) {
+            return LATEST;
+        }
+        return switch (sort) {
+            case "popular" -> POPULAR;
+            case "deadline" -> DEADLINE;
+            case "viewCount" -> VIEW_COUNT;
+            case "uniqueViewCount" -> UNIQUE_VIEW_COUNT;
+            default -> LATEST;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.entity.StudyStyle;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+// 스터디 그룹 목록 필터 조건. 값이 비어 있으면 null을 반환하여 조건에서 빠지게 한다.
+public final class StudyGroupSpecifications {
+
+    private StudyGroupSpecifications() {
+    }
+
+    public static Specification<StudyGroup> regionEquals(String region) {
+        if (region == null || region.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("region"), region);
+    }
+
+    // 주제 부분 일치 (대소문자 무시)
+    public static Specification<StudyGroup> topicContains(String topic) {
+        if (topic == null || topic.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(topic.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("topic")), pattern, '\\');
+    }
+
+    // 스터디 방식 (대소문자 무시). 없는 값이면 결과 없음
+    public static Specification<StudyGroup> studyStyleEquals(String studyStyle) {
+        if (studyStyle == null || studyStyle.isBlank()) {
+            return null;
+        }
+        for (StudyStyle style : StudyStyle.values()) {
+            if (style.name().equalsIgnoreCase(studyStyle)) {
+                return (root, query, cb) -> cb.equal(root.get("studyStyle"), style);
+            }
+        }
+        return (root, query, cb) -> cb.disjunction();
+    }
+
+    // 모집 중 (마감일이 오늘 이후)
+    public static Specification<StudyGroup> recruitingOn(Boolean recruiting, LocalDate today) {
+        if (recruiting == null || !recruiting) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("recruitmentDeadline"), today);
+    }
+
+    public static Specification<StudyGroup> deadlineBetween(LocalDate start, LocalDate end) {
+        return (root, query, cb) -> cb.between(root.get("recruitmentDeadline"), start, end);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.backend.repository;
+
+import java.util.Collection;
+
+// 여러 멤버를 JDBC 배치 INSERT 한 번으로 추가 (StudyMemberRepository에 합쳐짐)
+public interface StudyMemberBatchRepository {
+
+    void insertMembers(Long studyGroupId, Collection<Long> userIds, String role);
+}
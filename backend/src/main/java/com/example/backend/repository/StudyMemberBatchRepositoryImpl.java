@@ -0,0 +1,31 @@
+package com.example.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// IDENTITY 키라 JPA save()는 행마다 INSERT를 바로 실행하므로, 신청 일괄 승인 시에는 JdbcTemplate 배치로 넣는다.
+// 호출한 트랜잭션의 커넥션을 그대로 사용한다.
+@RequiredArgsConstructor
+class StudyMemberBatchRepositoryImpl implements StudyMemberBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO study_member (role, joined_at, user_id, study_group_id) VALUES (?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertMembers(Long studyGroupId, Collection<Long> userIds, String role) {
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{role, joinedAt, userId, studyGroupId})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+    }
+}
@@ -3,5 +3,5 @@ package com.example.backend.repository;
 import com.example.backend.entity.StudyMember;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface StudyMemberRepository extends JpaRepository<StudyMember, Long> {
+public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>, StudyMemberBatchRepository {
 }
@@ -2,9 +2,23 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
+
+    // 자동완성 인덱스용: 태그별 사용 중인 스터디 그룹 수
+    interface TagUsage {
+        Long getId();
+        String getName();
+        Long getUsageCount();
+    }
+
+    @Query("SELECT t.id AS id, t.name AS name, COUNT(sgt.studyGroup) AS usageCount " +
+            "FROM Tag t LEFT JOIN StudyGroupTag sgt ON sgt.tag = t " +
+            "GROUP BY t.id, t.name")
+    List<TagUsage> findAllUsage();
 }
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.UserRecommendation;
+import com.example.backend.entity.UserRecommendationId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, UserRecommendationId> {
+    List<UserRecommendation> findByUserIdOrderByRankNo(Long userId);
+}
@@ -1,10 +1,13 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -19,4 +22,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "LEFT JOIN FETCH u.createdStudyGroups csg " +
             "WHERE u.email = :email")
     Optional<User> findByEmailWithDetails(@Param("email") String email);
+
+    // 추천 배치: ID 순으로 청크 단위 순회 (lastId 이후부터)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 추천 배치: findByEmailWithDetails와 같은 연관관계를 청크 단위로 한 번에 조회
+    @Query("SELECT DISTINCT u FROM User u " +
+            "LEFT JOIN FETCH u.userTags ut " +
+            "LEFT JOIN FETCH ut.tag " +
+            "LEFT JOIN FETCH u.studyMemberships sm " +
+            "LEFT JOIN FETCH sm.studyGroup " +
+            "LEFT JOIN FETCH u.createdStudyGroups csg " +
+            "WHERE u.id IN :ids")
+    List<User> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 }
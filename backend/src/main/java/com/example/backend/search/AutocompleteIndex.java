@@ -0,0 +1,380 @@
+package com.example.backend.search;
+
+import com.example.backend.text.Chosung;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// 태그 이름과 스터디 그룹 제목 자동완성용 인메모리 압축(radix) 트라이
+// - 키는 소문자 + 공백 제거 형태이며, 초성 형태("ㅅㅍㄹ")도 함께 넣어 초성 검색을 지원한다.
+// - 제목은 단어 시작 위치마다 키를 넣어 중간 단어로도 찾을 수 있다. ("자바 스프링 스터디" -> "스프링..."으로도 검색)
+// - 갈라지지 않는 구간은 간선 하나로 합치고, 자식은 첫 글자 정렬 배열에서 이진 탐색한다. (글자마다 HashMap 노드를 두지 않음)
+// - 각 노드가 하위 키 전체의 인기도 상위 N개를 들고 있으므로 조회는 검색어 길이만큼 간선을 따라가는 비용뿐이다.
+// - 추가는 경로의 상위 N개 목록에 끼워 넣고, 삭제는 해당 항목을 가진 노드만 자식 목록에서 다시 계산한다.
+// - 전체 재구성은 잠금 밖에서 새 트라이를 만든 뒤 참조만 바꾸므로, 그동안 조회는 이전 트라이로 계속된다.
+@Component
+public class AutocompleteIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_KEY_LENGTH = 20; // 이보다 긴 검색어는 앞부분으로 찾은 뒤 전체 문자열로 거른다.
+
+    public enum Type {
+        TAG, STUDY_GROUP
+    }
+
+    public record Suggestion(Type type, long id, String text, long popularity) {
+    }
+
+    private record SuggestionKey(Type type, long id) {
+    }
+
+    // 조회와 증분 변경(upsert/remove) 사이의 잠금. 재구성 중 트라이를 만드는 동안에는 잡지 않는다.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final int maxSuggestions;
+    private volatile Trie trie;
+    // 재구성 중에 들어온 증분 변경. 새 트라이로 바꾸기 직전에 다시 적용한다. (재구성 중이 아니면 null)
+    private List<Consumer<Trie>> changesDuringRebuild;
+
+    public AutocompleteIndex(@Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        if (maxSuggestions < 1) {
+            throw new IllegalArgumentException("자동완성 최대 개수는 1 이상이어야 합니다.");
+        }
+        this.maxSuggestions = maxSuggestions;
+        this.trie = new Trie();
+    }
+
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public synchronized void rebuild(Collection<Suggestion> all) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie rebuilt = new Trie();
+        for (Suggestion suggestion : all) {
+            rebuilt.insert(suggestion);
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 같은 종류/ID가 있으면 교체 (제목이나 인기도 변경)
+    public void upsert(Suggestion suggestion) {
+        apply(target -> {
+            target.delete(new SuggestionKey(suggestion.type(), suggestion.id()));
+            target.insert(suggestion);
+        });
+    }
+
+    public void remove(Type type, long id) {
+        apply(target -> target.delete(new SuggestionKey(type, id)));
+    }
+
+    // 검색어로 시작하는(초성 포함) 항목을 인기도 순으로 최대 limit개
+    public List<Suggestion> suggest(String query, int limit) {
+        if (query == null) {
+            return List.of();
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        // 초성이 섞여 있으면("스ㅍㄹ") 전체를 초성으로 바꿔 초성 키에서 찾는다.
+        boolean chosungQuery = Chosung.containsChosung(normalized);
+        String key = chosungQuery ? Chosung.of(normalized) : normalized;
+
+        lock.readLock().lock();
+        try {
+            Node node = trie.find(truncate(key));
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, maxSuggestions);
+            if (key.length() <= MAX_KEY_LENGTH) {
+                return List.copyOf(node.top.subList(0, Math.min(count, node.top.size())));
+            }
+            return node.top.stream()
+                    .filter(suggestion -> keysOf(suggestion).stream().anyMatch(k -> k.startsWith(key)))
+                    .limit(count)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Trie> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(trie);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private final class Trie {
+        private final Node root = new Node("");
+        private final Map<SuggestionKey, Suggestion> suggestions = new HashMap<>();
+
+        // 검색어가 끝나는 노드. 간선 중간에서 끝나면 그 간선 아래 노드 (하위 키 집합이 같음)
+        private Node find(String key) {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return null;
+                }
+                int common = commonPrefixLength(child.label, key, i);
+                if (i + common == key.length()) {
+                    return child;
+                }
+                if (common < child.label.length()) {
+                    return null;
+                }
+                node = child;
+                i += common;
+            }
+            return node;
+        }
+
+        private void insert(Suggestion suggestion) {
+            suggestions.put(new SuggestionKey(suggestion.type(), suggestion.id()), suggestion);
+            for (String key : keysOf(suggestion)) {
+                insert(truncate(key), suggestion);
+            }
+        }
+
+        private void insert(String key, Suggestion suggestion) {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    child = new Node(key.substring(i));
+                    node.putChild(child);
+                    i = key.length();
+                } else {
+                    int common = commonPrefixLength(child.label, key, i);
+                    if (common < child.label.length()) {
+                        child = child.split(common);
+                        node.putChild(child);
+                    }
+                    i += common;
+                }
+                node = child;
+                offer(node.top, suggestion);
+            }
+            node.terminals.add(suggestion);
+        }
+
+        private void delete(SuggestionKey suggestionKey) {
+            Suggestion suggestion = suggestions.remove(suggestionKey);
+            if (suggestion == null) {
+                return;
+            }
+            for (String key : keysOf(suggestion)) {
+                delete(truncate(key), suggestion);
+            }
+        }
+
+        private void delete(String key, Suggestion suggestion) {
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                node = node.child(key.charAt(i));
+                if (node == null || !key.startsWith(node.label, i)) {
+                    return;
+                }
+                i += node.label.length();
+                path.add(node);
+            }
+            if (!node.terminals.remove(suggestion)) {
+                return; // 잘린 키가 같은 다른 키에서 이미 정리됨
+            }
+            // 아래에서부터 이 항목을 가진 노드만 다시 계산하고, 빈 노드는 떼어 내고, 자식 하나뿐인 노드는 합친다. (루트는 목록을 두지 않음)
+            for (int depth = path.size() - 1; depth >= 1; depth--) {
+                Node current = path.get(depth);
+                if (current.terminals.isEmpty() && current.children.length == 0) {
+                    path.get(depth - 1).removeChild(current.label.charAt(0));
+                    continue;
+                }
+                if (current.top.remove(suggestion)) {
+                    recompute(current);
+                }
+                if (current.terminals.isEmpty() && current.children.length == 1) {
+                    current.absorbOnlyChild();
+                }
+            }
+        }
+    }
+
+    // 노드의 상위 N개 = 이 노드에서 끝나는 항목 + 자식들의 상위 N개 중 상위 N개
+    private void recompute(Node node) {
+        node.top.clear();
+        for (Suggestion suggestion : node.terminals) {
+            offer(node.top, suggestion);
+        }
+        for (Node child : node.children) {
+            for (Suggestion suggestion : child.top) {
+                offer(node.top, suggestion);
+            }
+        }
+    }
+
+    // 인기도 내림차순(같으면 짧은 이름 먼저)으로 정렬된 목록에 끼워 넣고 N개로 자른다.
+    private void offer(List<Suggestion> top, Suggestion suggestion) {
+        if (top.contains(suggestion)) {
+            return;
+        }
+        int position = top.size();
+        while (position > 0 && ranksBefore(suggestion, top.get(position - 1))) {
+            position--;
+        }
+        if (position >= maxSuggestions) {
+            return;
+        }
+        top.add(position, suggestion);
+        if (top.size() > maxSuggestions) {
+            top.remove(top.size() - 1);
+        }
+    }
+
+    private static boolean ranksBefore(Suggestion a, Suggestion b) {
+        if (a.popularity() != b.popularity()) {
+            return a.popularity() > b.popularity();
+        }
+        if (a.text().length() != b.text().length()) {
+            return a.text().length() < b.text().length();
+        }
+        return a.text().compareTo(b.text()) < 0;
+    }
+
+    // 원문 키와 초성 키. 제목은 단어 시작 위치마다 키를 만든다.
+    private static Set<String> keysOf(Suggestion suggestion) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = WHITESPACE.split(suggestion.text().trim());
+        int wordStarts = suggestion.type() == Type.STUDY_GROUP ? words.length : 1;
+        for (int start = 0; start < wordStarts; start++) {
+            String key = normalize(String.join("", Arrays.asList(words).subList(start, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key);
+                keys.add(Chosung.of(key));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.trim().toLowerCase()).replaceAll("");
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+
+        private String label; // 부모에서 이 노드로 오는 간선 문자열 (루트는 빈 문자열)
+        private char[] firstChars = NO_CHARS; // 자식 간선의 첫 글자 (오름차순)
+        private Node[] children = NO_NODES;   // firstChars와 같은 순서
+        private List<Suggestion> top = new ArrayList<>(2);
+        private Set<Suggestion> terminals = new HashSet<>(2);
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char firstChar) {
+            int index = Arrays.binarySearch(firstChars, firstChar);
+            return index >= 0 ? children[index] : null;
+        }
+
+        // 첫 글자가 같은 자식이 있으면 교체
+        private void putChild(Node child) {
+            char firstChar = child.label.charAt(0);
+            int index = Arrays.binarySearch(firstChars, firstChar);
+            if (index >= 0) {
+                children[index] = child;
+                return;
+            }
+            int at = -index - 1;
+            char[] chars = new char[firstChars.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, chars, 0, at);
+            System.arraycopy(children, 0, nodes, 0, at);
+            chars[at] = firstChar;
+            nodes[at] = child;
+            System.arraycopy(firstChars, at, chars, at + 1, firstChars.length - at);
+            System.arraycopy(children, at, nodes, at + 1, children.length - at);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        private void removeChild(char firstChar) {
+            int index = Arrays.binarySearch(firstChars, firstChar);
+            if (index < 0) {
+                return;
+            }
+            char[] chars = new char[firstChars.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+            System.arraycopy(firstChars, 0, chars, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            System.arraycopy(firstChars, index + 1, chars, index, chars.length - index);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        // 간선을 at 위치에서 나눠 위쪽 노드를 새로 만들어 반환 (아래쪽은 이 노드가 그대로 맡는다)
+        private Node split(int at) {
+            Node upper = new Node(label.substring(0, at));
+            upper.top.addAll(top);
+            label = label.substring(at);
+            upper.putChild(this);
+            return upper;
+        }
+
+        // 끝나는 키 없이 자식 하나뿐인 노드는 그 자식과 간선을 합친다. (하위 키 집합이 같으므로 목록도 그대로)
+        private void absorbOnlyChild() {
+            Node child = children[0];
+            label = label + child.label;
+            firstChars = child.firstChars;
+            children = child.children;
+            top = child.top;
+            terminals = child.terminals;
+        }
+    }
+}
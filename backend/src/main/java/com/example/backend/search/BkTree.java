@@ -0,0 +1,238 @@
+package com.example.backend.search;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+
+import java.util.*;
+
+// 편집 거리(Levenshtein) 기반 BK-tree. 거리 d인 노드의 자식 중 [d - 허용 거리, d + 허용 거리] 범위만 탐색하므로
+// 전체 용어와 거리를 계산하지 않고 오타 후보를 찾는다.
+// - 길이 차이가 허용 거리보다 큰 용어는 후보가 될 수 없으므로 용어 길이별로 트리를 따로 두고, 길이가 가까운 트리만 탐색한다.
+// - 같은 용어를 여러 문서가 쓸 수 있으므로 참조 수를 세고, 0이 되면 노드를 지우지 않고 비활성으로 표시한다.
+// - 비활성 노드가 활성 노드보다 많아지면 활성 용어만으로 트리를 다시 만든다.
+// - 조회 시 노드별 편집 거리는 검색어를 비트 벡터로 바꿔(Myers) 용어 길이만큼의 비트 연산으로 구한다. (64자 초과 검색어는 DP)
+// - 스레드 안전하지 않음 (StudyGroupSearchIndex의 락 안에서만 사용)
+public class BkTree {
+
+    private static final LevenshteinDistance DISTANCE = LevenshteinDistance.getDefaultInstance();
+    private static final int MIN_REBUILD_SIZE = 1024;
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Map<Integer, Node> rootsByLength = new HashMap<>();
+    private final Map<String, Node> nodes = new HashMap<>();
+    private int liveCount;
+
+    public void add(String term) {
+        Node node = nodes.get(term);
+        if (node == null) {
+            node = insert(term);
+        }
+        if (node.references++ == 0) {
+            liveCount++;
+        }
+    }
+
+    public void remove(String term) {
+        Node node = nodes.get(term);
+        if (node == null || node.references == 0) {
+            return;
+        }
+        if (--node.references == 0) {
+            liveCount--;
+            int deadCount = nodes.size() - liveCount;
+            if (deadCount > liveCount && deadCount > MIN_REBUILD_SIZE) {
+                rebuild();
+            }
+        }
+    }
+
+    public void clear() {
+        rootsByLength.clear();
+        nodes.clear();
+        liveCount = 0;
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    // query와 편집 거리가 maxDistance 이하인 용어 (가까운 순)
+    public List<String> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        for (int length = Math.max(1, query.length() - maxDistance); length <= query.length() + maxDistance; length++) {
+            Node root = rootsByLength.get(length);
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+        QueryPattern pattern = query.length() <= Long.SIZE ? new QueryPattern(query) : null;
+        int[] previousRow = new int[query.length() + 1];
+        int[] currentRow = new int[query.length() + 1];
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // 가장 먼 자식 간선 + 허용 거리를 넘는 거리는 구분할 필요가 없으므로 그 지점에서 계산을 멈춘다.
+            int bound = Math.max(maxDistance, node.children.length - 1 + maxDistance);
+            int distance = pattern != null
+                    ? pattern.boundedDistance(node.term, bound)
+                    : boundedDistance(node.term, query, bound, previousRow, currentRow);
+            if (distance <= maxDistance && node.references > 0) {
+                matches.add(new Match(node.term, distance));
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int d = Math.max(1, distance - maxDistance); d <= last; d++) {
+                Node child = node.children[d];
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::term));
+        return matches.stream().map(Match::term).toList();
+    }
+
+    private Node insert(String term) {
+        Node created = new Node(term);
+        nodes.put(term, created);
+        Node node = rootsByLength.putIfAbsent(term.length(), created);
+        if (node == null) {
+            return created;
+        }
+        while (true) {
+            int distance = DISTANCE.apply(term, node.term);
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            Node child = node.children[distance];
+            if (child == null) {
+                node.children[distance] = created;
+                return created;
+            }
+            node = child;
+        }
+    }
+
+    private void rebuild() {
+        List<Node> live = nodes.values().stream().filter(node -> node.references > 0).toList();
+        clear();
+        for (Node node : live) {
+            insert(node.term).references = node.references;
+        }
+        liveCount = live.size();
+    }
+
+    // 편집 거리. bound를 넘으면 bound + 1 (행의 최솟값이 bound를 넘는 순간 중단)
+    // 행 배열은 query 길이 + 1 크기로 호출 측에서 재사용한다.
+    private static int boundedDistance(String term, String query, int bound, int[] previousRow, int[] currentRow) {
+        int queryLength = query.length();
+        if (Math.abs(term.length() - queryLength) > bound) {
+            return bound + 1;
+        }
+        for (int j = 0; j <= queryLength; j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= term.length(); i++) {
+            char c = term.charAt(i - 1);
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= queryLength; j++) {
+                int substitution = previousRow[j - 1] + (c == query.charAt(j - 1) ? 0 : 1);
+                int value = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                currentRow[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return Math.min(previousRow[queryLength], bound + 1);
+    }
+
+    // 64자 이하 검색어의 비트 병렬 편집 거리 (Myers 1999, Hyyrö 2001)
+    // 검색어 글자마다 "그 글자가 나오는 위치" 비트 마스크를 만들어 두고, 용어 한 글자당 비트 연산 몇 번으로 DP 한 열을 갱신한다.
+    private static final class QueryPattern {
+        private final int length;
+        private final long lastBit;
+        private final char[] keys;   // 개방 주소 해시 (검색어에 나오는 글자)
+        private final long[] masks;  // 글자가 나오는 검색어 위치 비트
+        private final boolean[] used;
+
+        private QueryPattern(String query) {
+            this.length = query.length();
+            this.lastBit = length == 0 ? 0 : 1L << (length - 1);
+            int capacity = Integer.highestOneBit(Math.max(1, length) * 2) * 2;
+            this.keys = new char[capacity];
+            this.masks = new long[capacity];
+            this.used = new boolean[capacity];
+            for (int i = 0; i < length; i++) {
+                int slot = slotOf(query.charAt(i));
+                keys[slot] = query.charAt(i);
+                used[slot] = true;
+                masks[slot] |= 1L << i;
+            }
+        }
+
+        private int slotOf(char c) {
+            int slot = c & (keys.length - 1);
+            while (used[slot] && keys[slot] != c) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return slot;
+        }
+
+        private long maskOf(char c) {
+            int slot = slotOf(c);
+            return used[slot] ? masks[slot] : 0;
+        }
+
+        // boundedDistance와 같은 규약: bound를 넘으면 bound + 1
+        private int boundedDistance(String term, int bound) {
+            int termLength = term.length();
+            if (Math.abs(termLength - length) > bound) {
+                return bound + 1;
+            }
+            if (length == 0) {
+                return Math.min(termLength, bound + 1);
+            }
+            long positive = -1L; // 세로 차이 +1 위치
+            long negative = 0;   // 세로 차이 -1 위치
+            int score = length;
+            for (int j = 0; j < termLength; j++) {
+                long equal = maskOf(term.charAt(j));
+                long vertical = equal | negative;
+                long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+                long horizontalPositive = negative | ~(horizontal | positive);
+                long horizontalNegative = positive & horizontal;
+                if ((horizontalPositive & lastBit) != 0) {
+                    score++;
+                } else if ((horizontalNegative & lastBit) != 0) {
+                    score--;
+                }
+                // 남은 글자로 줄일 수 있는 거리보다 멀어지면 중단
+                if (score - (termLength - j - 1) > bound) {
+                    return bound + 1;
+                }
+                horizontalPositive = (horizontalPositive << 1) | 1;
+                horizontalNegative <<= 1;
+                positive = horizontalNegative | ~(vertical | horizontalPositive);
+                negative = horizontalPositive & vertical;
+            }
+            return Math.min(score, bound + 1);
+        }
+    }
+
+    private static final class Node {
+        private final String term;
+        private Node[] children = NO_CHILDREN; // 인덱스 = 부모 용어와의 편집 거리
+        private int references;
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+
+    private record Match(String term, int distance) {
+    }
+}
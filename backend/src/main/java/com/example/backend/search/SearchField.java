@@ -0,0 +1,11 @@
+package com.example.backend.search;
+
+// 스터디 그룹 검색 대상 필드
+public enum SearchField {
+    TITLE,
+    TOPIC,
+    DESCRIPTION,
+    CREATOR,
+    REGION,
+    TAG
+}
@@ -0,0 +1,88 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.event.TagCreatedEvent;
+import com.example.backend.event.UserProfileChangedEvent;
+import com.example.backend.repository.StudyGroupRepository;
+import com.example.backend.repository.TagRepository;
+import com.example.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색/자동완성 인덱스를 DB 상태와 동기화
+// 자동완성의 인기도(태그 사용 수, 관심 수)는 변경마다 반영하지 않고 주기적인 재구성으로 맞춘다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final StudyGroupRepository studyGroupRepository;
+    private final UserRepository userRepository;
+    private final TagRepository tagRepository;
+    private final StudyGroupSearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        List<StudyGroup> studyGroups = studyGroupRepository.findAllWithTagsAndCreator();
+        searchIndex.rebuild(studyGroups);
+        log.info("검색 인덱스 구성 완료: {}개 스터디 그룹", studyGroups.size());
+        rebuildAutocomplete();
+    }
+
+    @Scheduled(cron = "${search.autocomplete.refresh-cron:0 */10 * * * *}")
+    @Transactional(readOnly = true)
+    public void rebuildAutocomplete() {
+        List<AutocompleteIndex.Suggestion> suggestions = new ArrayList<>();
+        for (TagRepository.TagUsage tag : tagRepository.findAllUsage()) {
+            suggestions.add(new AutocompleteIndex.Suggestion(AutocompleteIndex.Type.TAG, tag.getId(), tag.getName(), tag.getUsageCount()));
+        }
+        for (StudyGroupRepository.TitlePopularity group : studyGroupRepository.findAllTitlePopularity()) {
+            suggestions.add(titleSuggestion(group));
+        }
+        autocompleteIndex.rebuild(suggestions);
+        log.debug("자동완성 인덱스 구성 완료: {}개 항목", suggestions.size());
+    }
+
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            searchIndex.remove(event.getStudyGroupId());
+            autocompleteIndex.remove(AutocompleteIndex.Type.STUDY_GROUP, event.getStudyGroupId());
+            return;
+        }
+        studyGroupRepository.findByIdWithTagsAndCreator(event.getStudyGroupId())
+                .ifPresentOrElse(searchIndex::upsert, () -> searchIndex.remove(event.getStudyGroupId()));
+        studyGroupRepository.findTitlePopularityById(event.getStudyGroupId())
+                .ifPresentOrElse(group -> autocompleteIndex.upsert(titleSuggestion(group)),
+                        () -> autocompleteIndex.remove(AutocompleteIndex.Type.STUDY_GROUP, event.getStudyGroupId()));
+    }
+
+    // 새 태그는 사용 수 1로 바로 추가 (만들어지는 시점에 한 곳에서 쓰이고 있으므로)
+    @TransactionalEventListener
+    public void onTagCreated(TagCreatedEvent event) {
+        autocompleteIndex.upsert(new AutocompleteIndex.Suggestion(AutocompleteIndex.Type.TAG, event.getTagId(), event.getName(), 1));
+    }
+
+    // 닉네임이 바뀌었으면 그 사용자가 만든 그룹의 생성자 필드 갱신
+    @TransactionalEventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        userRepository.findById(event.getUserId())
+                .ifPresent(user -> searchIndex.updateCreatorNickname(user.getId(), user.getNickname()));
+    }
+
+    private static AutocompleteIndex.Suggestion titleSuggestion(StudyGroupRepository.TitlePopularity group) {
+        return new AutocompleteIndex.Suggestion(AutocompleteIndex.Type.STUDY_GROUP, group.getId(), group.getTitle(), group.getInterestCount());
+    }
+}
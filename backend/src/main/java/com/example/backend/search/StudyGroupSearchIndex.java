@@ -0,0 +1,413 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.entity.StudyGroupTag;
+import com.example.backend.entity.Tag;
+import com.example.backend.recommendation.ScoredGroup;
+import com.example.backend.recommendation.TopKSelector;
+import com.example.backend.text.TokenBuffer;
+import com.example.backend.text.Tokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 스터디 그룹 검색용 인메모리 역색인 (제목, 주제, 설명, 생성자 닉네임, 지역, 태그)
+// - 필드마다 용어 -> (그룹 ID -> 출현 횟수) 역색인을 TreeMap으로 유지하여 접두어 검색을 지원한다.
+// - 한글은 단어와 함께 음절 2-gram도 색인하므로 단어 중간의 한글 검색어도 찾을 수 있다. ("부트" -> "스프링부트")
+// - 검색어의 단어마다 일치하는 그룹과 BM25 점수를 구하고, 작은 집합부터 교집합하며 점수를 합산한다. (모든 단어를 포함하는 그룹만)
+// - BM25는 필드별로 계산하여 필드 가중치(boost)를 곱해 더한다. 문서 길이와 TF는 색인 시 미리 저장해 둔다.
+// - 그룹 생성/수정/삭제, 생성자 닉네임 변경 시 해당 그룹만 갱신한다.
+// - 검색어 단어가 어디에도 일치하지 않으면 제목/주제/태그 용어의 BK-tree에서 편집 거리 1~2 이내 용어로 대체한다. (오타 보정)
+@Component
+public class StudyGroupSearchIndex {
+
+    private static final ThreadLocal<TokenBuffer> TOKEN_BUFFERS = ThreadLocal.withInitial(TokenBuffer::new);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final double FUZZY_WEIGHT = 0.5;      // 오타 보정으로 찾은 용어의 점수 비율
+    private static final int MAX_FUZZY_EXPANSIONS = 10;  // 단어 하나당 대체 용어 최대 개수
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<SearchField, NavigableMap<String, Map<Long, Integer>>> postings = new EnumMap<>(SearchField.class);
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> groupIdsByCreatorId = new HashMap<>();
+    private final BkTree fuzzyTerms = new BkTree();
+    private final long[] totalFieldLengths = new long[SearchField.values().length];
+    private final double[] boosts = new double[SearchField.values().length];
+
+    public StudyGroupSearchIndex(@Value("${search.boost.title:3.0}") double titleBoost,
+                                 @Value("${search.boost.tag:2.0}") double tagBoost,
+                                 @Value("${search.boost.topic:1.5}") double topicBoost,
+                                 @Value("${search.boost.description:1.0}") double descriptionBoost,
+                                 @Value("${search.boost.creator:1.0}") double creatorBoost,
+                                 @Value("${search.boost.region:1.0}") double regionBoost) {
+        for (SearchField field : SearchField.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+        boosts[SearchField.TITLE.ordinal()] = titleBoost;
+        boosts[SearchField.TAG.ordinal()] = tagBoost;
+        boosts[SearchField.TOPIC.ordinal()] = topicBoost;
+        boosts[SearchField.DESCRIPTION.ordinal()] = descriptionBoost;
+        boosts[SearchField.CREATOR.ordinal()] = creatorBoost;
+        boosts[SearchField.REGION.ordinal()] = regionBoost;
+    }
+
+    public void rebuild(Collection<StudyGroup> studyGroups) {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Map::clear);
+            Arrays.fill(totalFieldLengths, 0);
+            fuzzyTerms.clear();
+            documents.clear();
+            groupIdsByCreatorId.clear();
+            for (StudyGroup studyGroup : studyGroups) {
+                addDocument(studyGroup);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 태그와 생성자가 로딩된 그룹으로 호출해야 한다.
+    public void upsert(StudyGroup studyGroup) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(studyGroup.getId());
+            addDocument(studyGroup);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyGroupId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(studyGroupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 닉네임이 바뀐 경우 해당 사용자가 만든 그룹의 CREATOR 필드만 다시 색인
+    public void updateCreatorNickname(Long creatorId, String nickname) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> groupIds = groupIdsByCreatorId.get(creatorId);
+            if (groupIds == null) {
+                return;
+            }
+            String[] terms = tokenize(nickname);
+            for (Long groupId : groupIds) {
+                IndexedDocument document = documents.get(groupId);
+                if (Arrays.equals(document.terms().get(SearchField.CREATOR), terms)) {
+                    continue; // 이미 새 닉네임으로 색인됨 (upsert가 먼저 반영한 그룹 등)
+                }
+                unindexField(groupId, SearchField.CREATOR, document.terms().get(SearchField.CREATOR));
+                indexField(groupId, SearchField.CREATOR, terms);
+                document.terms().put(SearchField.CREATOR, terms);
+                totalFieldLengths[SearchField.CREATOR.ordinal()] += terms.length - document.lengths()[SearchField.CREATOR.ordinal()];
+                document.lengths()[SearchField.CREATOR.ordinal()] = terms.length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 단어를 (어느 필드에서든) 포함하는 그룹 중 (after 이후 순위의) BM25 상위 k개
+    public List<ScoredGroup> search(String query, int k, ScoredGroup after) {
+        List<QueryWord> words = parseQuery(query);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 절마다 일치하는 (필드, 용어) 역색인 목록. 오타 보정 후에도 비어 있는 단어가 있으면 결과 없음
+            List<List<WeightedPostings>> clausePostings = new ArrayList<>();
+            for (QueryWord word : words) {
+                List<List<WeightedPostings>> wordPostings = findPostings(word);
+                if (wordPostings == null) {
+                    List<WeightedPostings> fuzzy = findFuzzyPostings(word.word());
+                    if (fuzzy.isEmpty()) {
+                        return Collections.emptyList();
+                    }
+                    wordPostings = List.of(fuzzy);
+                }
+                clausePostings.addAll(wordPostings);
+            }
+            // 가장 선택적인 절의 문서만 순회하고, 나머지 절은 문서별로 조회하여 점수를 더한다.
+            clausePostings.sort(Comparator.comparingLong(StudyGroupSearchIndex::postingCount));
+
+            Map<Long, Double> driverScores = new HashMap<>();
+            for (WeightedPostings postings : clausePostings.get(0)) {
+                for (Map.Entry<Long, Integer> posting : postings.termFrequencies().entrySet()) {
+                    driverScores.merge(posting.getKey(), bm25(postings, posting.getKey(), posting.getValue()), Double::sum);
+                }
+            }
+
+            TopKSelector topK = new TopKSelector(k);
+            candidates:
+            for (Map.Entry<Long, Double> candidate : driverScores.entrySet()) {
+                Long id = candidate.getKey();
+                double score = candidate.getValue();
+                for (int i = 1; i < clausePostings.size(); i++) {
+                    double clauseScore = scoreDocument(clausePostings.get(i), id);
+                    if (clauseScore < 0) {
+                        continue candidates;
+                    }
+                    score += clauseScore;
+                }
+                if (after != null && !ScoredGroup.ranksAfter(score, id, after.score(), after.studyGroupId())) {
+                    continue;
+                }
+                topK.offer(id, score);
+            }
+            return topK.toSortedList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 3음절 이상 한글 단어는 2-gram 절들을 모두 포함해야 하고, 그 외에는 단어 하나가 접두어 일치 절 하나
+    private static List<QueryWord> parseQuery(String query) {
+        TokenBuffer tokens = TOKEN_BUFFERS.get();
+        Tokenizer.WORDS.tokenize(query, tokens);
+        List<QueryWord> words = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            String word = tokens.get(i);
+            List<Clause> clauses = new ArrayList<>();
+            if (word.length() > 2 && isAllHangul(word)) {
+                for (int j = 0; j + 1 < word.length(); j++) {
+                    clauses.add(new Clause(word.substring(j, j + 2), false));
+                }
+            } else {
+                clauses.add(new Clause(word, true));
+            }
+            words.add(new QueryWord(word, clauses));
+        }
+        return words;
+    }
+
+    // 단어의 절별 역색인 목록. 일치하지 않는 절이 있으면 null
+    private List<List<WeightedPostings>> findPostings(QueryWord word) {
+        List<List<WeightedPostings>> wordPostings = new ArrayList<>(word.clauses().size());
+        for (Clause clause : word.clauses()) {
+            List<WeightedPostings> matched = findPostings(clause, 1.0);
+            if (matched.isEmpty()) {
+                return null;
+            }
+            wordPostings.add(matched);
+        }
+        return wordPostings;
+    }
+
+    // 오타 보정: 편집 거리 이내 용어들 중 하나라도 포함하면 일치 (점수는 FUZZY_WEIGHT 비율)
+    private List<WeightedPostings> findFuzzyPostings(String word) {
+        int maxDistance = maxEditDistance(word);
+        if (maxDistance == 0) {
+            return Collections.emptyList();
+        }
+        List<String> neighbours = fuzzyTerms.search(word, maxDistance);
+        List<WeightedPostings> matched = new ArrayList<>();
+        for (int i = 0; i < neighbours.size() && i < MAX_FUZZY_EXPANSIONS; i++) {
+            matched.addAll(findPostings(new Clause(neighbours.get(i), false), FUZZY_WEIGHT));
+        }
+        return matched;
+    }
+
+    // 짧은 단어는 한 글자만 달라도 전혀 다른 단어가 되므로 허용 거리를 줄인다.
+    private static int maxEditDistance(String word) {
+        if (word.length() <= 3) {
+            return 0;
+        }
+        return word.length() <= 6 ? 1 : 2;
+    }
+
+    // 절에 일치하는 필드별 역색인과 그 가중치(필드 가중치 * IDF * weight)
+    private List<WeightedPostings> findPostings(Clause clause, double weight) {
+        List<WeightedPostings> matched = new ArrayList<>();
+        for (SearchField field : SearchField.values()) {
+            int fieldIndex = field.ordinal();
+            if (boosts[fieldIndex] <= 0) {
+                continue;
+            }
+            NavigableMap<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+            if (!clause.prefix()) {
+                Map<Long, Integer> termFrequencies = fieldPostings.get(clause.term());
+                if (termFrequencies != null) {
+                    matched.add(weighted(fieldIndex, termFrequencies, weight));
+                }
+            } else {
+                for (Map<Long, Integer> termFrequencies : prefixRange(fieldPostings, clause.term()).values()) {
+                    matched.add(weighted(fieldIndex, termFrequencies, weight));
+                }
+            }
+        }
+        return matched;
+    }
+
+    private WeightedPostings weighted(int fieldIndex, Map<Long, Integer> termFrequencies, double weight) {
+        int documentCount = documents.size();
+        int documentFrequency = termFrequencies.size();
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double averageLength = Math.max(1.0, (double) totalFieldLengths[fieldIndex] / documentCount);
+        return new WeightedPostings(fieldIndex, termFrequencies, boosts[fieldIndex] * idf * weight, averageLength);
+    }
+
+    // 문서의 절 점수. 절에 일치하지 않으면 -1
+    private double scoreDocument(List<WeightedPostings> clause, Long studyGroupId) {
+        double score = -1;
+        for (WeightedPostings postings : clause) {
+            Integer tf = postings.termFrequencies().get(studyGroupId);
+            if (tf != null) {
+                score = Math.max(score, 0) + bm25(postings, studyGroupId, tf);
+            }
+        }
+        return score;
+    }
+
+    private double bm25(WeightedPostings postings, Long studyGroupId, int tf) {
+        int length = documents.get(studyGroupId).lengths()[postings.fieldIndex()];
+        return postings.weight() * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / postings.averageLength()));
+    }
+
+    private static long postingCount(List<WeightedPostings> clause) {
+        long count = 0;
+        for (WeightedPostings postings : clause) {
+            count += postings.termFrequencies().size();
+        }
+        return count;
+    }
+
+    private static SortedMap<String, Map<Long, Integer>> prefixRange(
+            NavigableMap<String, Map<Long, Integer>> fieldPostings, String prefix) {
+        return fieldPostings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void addDocument(StudyGroup studyGroup) {
+        Long id = studyGroup.getId();
+        Map<SearchField, String[]> terms = new EnumMap<>(SearchField.class);
+        terms.put(SearchField.TITLE, tokenize(studyGroup.getTitle()));
+        terms.put(SearchField.TOPIC, tokenize(studyGroup.getTopic()));
+        terms.put(SearchField.DESCRIPTION, tokenize(studyGroup.getDescription()));
+        terms.put(SearchField.CREATOR, tokenize(studyGroup.getCreator() != null ? studyGroup.getCreator().getNickname() : null));
+        terms.put(SearchField.REGION, tokenize(studyGroup.getRegion()));
+        terms.put(SearchField.TAG, tokenize(String.join(" ", studyGroup.getStudyGroupTags().stream()
+                .map(StudyGroupTag::getTag)
+                .map(Tag::getName)
+                .toList())));
+
+        int[] lengths = new int[SearchField.values().length];
+        terms.forEach((field, fieldTerms) -> {
+            indexField(id, field, fieldTerms);
+            lengths[field.ordinal()] = fieldTerms.length;
+            totalFieldLengths[field.ordinal()] += fieldTerms.length;
+        });
+        String[] correctableTerms = correctableTerms(studyGroup);
+        for (String term : correctableTerms) {
+            fuzzyTerms.add(term);
+        }
+        Long creatorId = studyGroup.getCreator() != null ? studyGroup.getCreator().getId() : null;
+        documents.put(id, new IndexedDocument(creatorId, terms, lengths, correctableTerms));
+        if (creatorId != null) {
+            groupIdsByCreatorId.computeIfAbsent(creatorId, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeDocument(Long studyGroupId) {
+        IndexedDocument document = documents.remove(studyGroupId);
+        if (document == null) {
+            return;
+        }
+        document.terms().forEach((field, fieldTerms) -> {
+            unindexField(studyGroupId, field, fieldTerms);
+            totalFieldLengths[field.ordinal()] -= fieldTerms.length;
+        });
+        for (String term : document.correctableTerms()) {
+            fuzzyTerms.remove(term);
+        }
+        if (document.creatorId() != null) {
+            Set<Long> groupIds = groupIdsByCreatorId.get(document.creatorId());
+            if (groupIds != null && groupIds.remove(studyGroupId) && groupIds.isEmpty()) {
+                groupIdsByCreatorId.remove(document.creatorId());
+            }
+        }
+    }
+
+    private void indexField(Long studyGroupId, SearchField field, String[] terms) {
+        NavigableMap<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+        for (String term : terms) {
+            fieldPostings.computeIfAbsent(term, k -> new HashMap<>()).merge(studyGroupId, 1, Integer::sum);
+        }
+    }
+
+    private void unindexField(Long studyGroupId, SearchField field, String[] terms) {
+        NavigableMap<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+        for (String term : terms) {
+            Map<Long, Integer> documentIds = fieldPostings.get(term);
+            if (documentIds != null && documentIds.remove(studyGroupId) != null && documentIds.isEmpty()) {
+                fieldPostings.remove(term);
+            }
+        }
+    }
+
+    // 오타 보정 사전에 넣을 용어: 제목, 주제, 태그 이름의 단어 (2-gram 제외, 문서당 중복 제거)
+    private static String[] correctableTerms(StudyGroup studyGroup) {
+        Set<String> terms = new LinkedHashSet<>();
+        TokenBuffer buffer = TOKEN_BUFFERS.get();
+        List<String> texts = new ArrayList<>();
+        texts.add(studyGroup.getTitle());
+        texts.add(studyGroup.getTopic());
+        for (StudyGroupTag studyGroupTag : studyGroup.getStudyGroupTags()) {
+            texts.add(studyGroupTag.getTag().getName());
+        }
+        for (String text : texts) {
+            Tokenizer.WORDS.tokenize(text, buffer);
+            for (int i = 0; i < buffer.size(); i++) {
+                if (buffer.get(i).length() > 1) {
+                    terms.add(buffer.get(i));
+                }
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    private static String[] tokenize(String text) {
+        TokenBuffer buffer = TOKEN_BUFFERS.get();
+        Tokenizer.WORDS_AND_HANGUL_BIGRAMS.tokenize(text, buffer);
+        String[] terms = new String[buffer.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = buffer.get(i);
+        }
+        return terms;
+    }
+
+    private static boolean isAllHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Tokenizer.isHangulSyllable(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record QueryWord(String word, List<Clause> clauses) {
+    }
+
+    // 검색어 단어 하나에서 나온 조건 (prefix면 접두어 일치, 아니면 정확히 일치)
+    private record Clause(String term, boolean prefix) {
+    }
+
+    // 한 필드의 한 용어 역색인과 BM25 계산에 필요한 값
+    private record WeightedPostings(int fieldIndex, Map<Long, Integer> termFrequencies, double weight, double averageLength) {
+    }
+
+    // 필드별 용어 목록(중복 포함)과 오타 보정 용어는 삭제/갱신 시 정확히 빼기 위해, 필드 길이는 BM25 정규화를 위해 보관
+    private record IndexedDocument(Long creatorId, Map<SearchField, String[]> terms, int[] lengths, String[] correctableTerms) {
+    }
+}
@@ -1,20 +1,28 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.Application.ApplicationBatchProcessRequestDto;
 import com.example.backend.dto.Application.ApplicationRequestDto;
 import com.example.backend.dto.Application.ApplicationResponseDto;
 import com.example.backend.dto.Application.ApplicationProcessRequestDto;
 import com.example.backend.dto.Application.MemberApplicationResponseDto;
 import com.example.backend.entity.*;
+import com.example.backend.event.ApplicationChangedEvent;
+import com.example.backend.event.StudyGroupActivityEvent;
+import com.example.backend.event.StudyMembershipChangedEvent;
 import com.example.backend.repository.ApplicationRepository;
 import com.example.backend.repository.StudyGroupRepository;
 import com.example.backend.repository.StudyMemberRepository;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +33,9 @@ public class ApplicationService {
     private final UserRepository userRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final StudyMemberRepository studyMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_BATCH_SIZE = 100;
 
 
     // 사용자 -> 스터디 신청
@@ -46,6 +57,8 @@ public class ApplicationService {
                 .build();
 
         applicationRepository.save(application);
+        eventPublisher.publishEvent(new StudyGroupActivityEvent(groupId, StudyGroupActivityEvent.Activity.APPLICATION));
+        eventPublisher.publishEvent(new ApplicationChangedEvent(groupId, applicant.getEmail(), new ApplicationResponseDto(application)));
     }
 
     // 그룹장 -> 신청 목록 확인
@@ -86,9 +99,62 @@ public class ApplicationService {
                     .role("MEMBER")
                     .build();
             studyMemberRepository.save(newMember);
+
+            eventPublisher.publishEvent(new StudyMembershipChangedEvent(application.getApplicant().getId(), studyGroup.getId()));
         } else if (newStatus == ApplicationStatus.REJECTED) {
             application.updateStatus(ApplicationStatus.REJECTED);
+        } else {
+            return;
+        }
+        eventPublisher.publishEvent(new ApplicationChangedEvent(studyGroup.getId(),
+                application.getApplicant().getEmail(), new ApplicationResponseDto(application)));
+    }
+
+    // 그룹장 -> 신청 일괄 처리
+    // 권한 확인 1회, 신청+신청자 조회 1회, 상태 변경 UPDATE 1회, 승인 시 멤버 배치 INSERT 1회로 끝낸다.
+    // 대기 중인 신청만 처리할 수 있으며, 하나라도 조건에 맞지 않으면 전체를 처리하지 않는다.
+    @Transactional
+    public List<ApplicationResponseDto> processApplications(Long groupId, ApplicationBatchProcessRequestDto requestDto, UserDetails userDetails) {
+        ApplicationStatus newStatus = requestDto.getStatus();
+        if (newStatus != ApplicationStatus.ACCEPTED && newStatus != ApplicationStatus.REJECTED) {
+            throw new IllegalArgumentException("신청은 승인(ACCEPTED) 또는 거절(REJECTED)로만 처리할 수 있습니다.");
+        }
+        Set<Long> applicationIds = requestDto.getApplicationIds() == null ? Set.of() : new LinkedHashSet<>(requestDto.getApplicationIds());
+        if (applicationIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 신청을 선택해 주세요.");
+        }
+        if (applicationIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 신청은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        String creatorEmail = studyGroupRepository.findCreatorEmailById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("스터디 그룹을 찾을 수 없습니다."));
+        if (!creatorEmail.equals(userDetails.getUsername())) {
+            throw new IllegalArgumentException("신청을 처리할 권한이 없습니다.");
+        }
+
+        List<Application> applications = applicationRepository.findAllWithApplicantByStudyGroupIdAndIdIn(groupId, applicationIds);
+        if (applications.size() != applicationIds.size()) {
+            throw new IllegalArgumentException("해당 신청을 찾을 수 없습니다.");
+        }
+        if (applications.stream().anyMatch(application -> application.getStatus() != ApplicationStatus.PENDING)
+                || applicationRepository.updatePendingStatus(applicationIds, newStatus) != applicationIds.size()) {
+            throw new IllegalArgumentException("이미 처리된 신청이 포함되어 있습니다.");
+        }
+
+        if (newStatus == ApplicationStatus.ACCEPTED) {
+            List<Long> applicantIds = applications.stream().map(application -> application.getApplicant().getId()).toList();
+            studyMemberRepository.insertMembers(groupId, applicantIds, "MEMBER");
+            applicantIds.forEach(applicantId -> eventPublisher.publishEvent(new StudyMembershipChangedEvent(applicantId, groupId)));
+        }
+
+        List<ApplicationResponseDto> processed = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            ApplicationResponseDto response = new ApplicationResponseDto(application, newStatus);
+            eventPublisher.publishEvent(new ApplicationChangedEvent(groupId, application.getApplicant().getEmail(), response));
+            processed.add(response);
         }
+        return processed;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,101 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Comment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.List;
+
+// 경로(path)/깊이(depth) 컬럼이 추가되기 전의 댓글을 채운다.
+// - 루트 댓글은 UPDATE 한 번으로, 답글은 "부모 경로가 채워진 답글"을 ID 순으로 chunkSize씩 읽어 배치 UPDATE 한다.
+// - 자식 ID는 항상 부모보다 크므로 대부분 한 바퀴에 채워지고, 같은 묶음에 부모와 함께 있던 답글은 다음 바퀴에 채워진다.
+//   "경로 있는 부모 + 경로 없는 답글" 쌍이 남지 않을 때까지 반복하므로 모든 답글이 채워진다.
+// - ddl-auto=update는 기존 컬럼 정의를 바꾸지 않으므로, 예전 path 컬럼(VARCHAR(255))은 먼저 ASCII 3072자로 넓힌다.
+// - 그래도 담을 수 없는 깊이(256단계 초과)의 답글은 경로를 비워 두고 경고만 남긴다. parent_id는 절대 바꾸지 않는다.
+// - 이미 채워진 댓글은 건드리지 않으므로 매 시작 시 실행해도 비용이 거의 없다.
+@Slf4j
+@Component
+public class CommentPathBackfill {
+
+    private static final String FILL_ROOTS =
+            "UPDATE comments SET path = LPAD(id, " + Comment.PATH_SEGMENT_LENGTH + ", '0'), depth = 0 " +
+            "WHERE parent_id IS NULL AND path IS NULL";
+    private static final String SELECT_PENDING_REPLIES =
+            "SELECT c.id, p.path, p.depth FROM comments c JOIN comments p ON c.parent_id = p.id " +
+            "WHERE c.path IS NULL AND p.path IS NOT NULL AND c.id > ? ORDER BY c.id LIMIT ?";
+    private static final String UPDATE_PATH = "UPDATE comments SET path = ?, depth = ? WHERE id = ?";
+    private static final int[] UPDATE_TYPES = {Types.VARCHAR, Types.INTEGER, Types.BIGINT};
+    private static final String PATH_COLUMN_LENGTH =
+            "SELECT CHARACTER_MAXIMUM_LENGTH FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'comments' AND COLUMN_NAME = 'path'";
+    private static final String WIDEN_PATH_COLUMN =
+            "ALTER TABLE comments MODIFY path " + Comment.PATH_COLUMN_DEFINITION;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public CommentPathBackfill(JdbcTemplate jdbcTemplate,
+                               @Value("${comment.path-backfill.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        widenPathColumn();
+        int filled = jdbcTemplate.update(FILL_ROOTS);
+        int filledInPass;
+        int tooDeep;
+        do {
+            filledInPass = 0;
+            tooDeep = 0;
+            long afterId = 0;
+            while (true) {
+                List<PendingReply> pending = jdbcTemplate.query(SELECT_PENDING_REPLIES,
+                        (rs, rowNum) -> new PendingReply(rs.getLong(1), rs.getString(2), rs.getInt(3)),
+                        afterId, chunkSize);
+                if (pending.isEmpty()) {
+                    break;
+                }
+                afterId = pending.get(pending.size() - 1).id();
+                List<Object[]> updates = pending.stream()
+                        .filter(reply -> Comment.canExtend(reply.parentPath()))
+                        .map(PendingReply::toUpdate)
+                        .toList();
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_PATH, updates, UPDATE_TYPES);
+                }
+                filledInPass += updates.size();
+                tooDeep += pending.size() - updates.size();
+            }
+            filled += filledInPass;
+        } while (filledInPass > 0);
+        if (filled > 0) {
+            log.info("댓글 경로 백필: {}개 댓글", filled);
+        }
+        if (tooDeep > 0) {
+            log.warn("댓글 경로 백필: 경로 최대 길이({}자)를 넘는 깊은 답글 {}개(그 아래 답글 포함)는 경로 없이 남겨 둡니다.", Comment.MAX_PATH_LENGTH, tooDeep);
+        }
+    }
+
+    private void widenPathColumn() {
+        Integer length = jdbcTemplate.queryForObject(PATH_COLUMN_LENGTH, Integer.class);
+        if (length != null && length < Comment.MAX_PATH_LENGTH) {
+            jdbcTemplate.execute(WIDEN_PATH_COLUMN);
+            log.info("comments.path 컬럼 확장: {} -> {}자", length, Comment.MAX_PATH_LENGTH);
+        }
+    }
+
+    private record PendingReply(long id, String parentPath, int parentDepth) {
+
+        // (path, depth, id)
+        private Object[] toUpdate() {
+            return new Object[]{parentPath + Comment.pathSegment(id), parentDepth + 1, id};
+        }
+    }
+}
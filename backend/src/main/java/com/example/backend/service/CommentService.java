@@ -1,28 +1,58 @@
 package com.example.backend.service;
 
+import com.example.backend.common.CursorCodec;
+import com.example.backend.dto.CursorPageDto;
 import com.example.backend.dto.comment.CommentRequestDto;
 import com.example.backend.dto.comment.CommentResponseDto;
 import com.example.backend.entity.Comment;
 import com.example.backend.entity.StudyGroup;
 import com.example.backend.entity.User;
+import com.example.backend.event.CommentCreatedEvent;
+import com.example.backend.event.StudyGroupActivityEvent;
 import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.CommentRepository.ReplyCount;
 import com.example.backend.repository.StudyGroupRepository;
 import com.example.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int inlineReplies;
+    private final int maxDepth;
+
+    public CommentService(CommentRepository commentRepository,
+                          StudyGroupRepository studyGroupRepository,
+                          UserRepository userRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${comment.inline-replies:3}") int inlineReplies,
+                          @Value("${comment.max-depth:10}") int maxDepth) {
+        // 경로 길이 = (깊이 + 1) x 단계 길이
+        if (maxDepth < 0 || (maxDepth + 1) * Comment.PATH_SEGMENT_LENGTH > Comment.MAX_PATH_LENGTH) {
+            throw new IllegalArgumentException("댓글 최대 깊이는 0 이상 "
+                    + (Comment.MAX_PATH_LENGTH / Comment.PATH_SEGMENT_LENGTH - 1) + " 이하여야 합니다.");
+        }
+        this.commentRepository = commentRepository;
+        this.studyGroupRepository = studyGroupRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.inlineReplies = Math.max(0, inlineReplies);
+        this.maxDepth = maxDepth;
+    }
 
     @Transactional
     public CommentResponseDto createComment(Long studyGroupId, CommentRequestDto requestDto, UserDetails userDetails) {
@@ -35,7 +65,15 @@ public class CommentService {
         Comment parent = null;
         if (requestDto.getParentId() != null) {
             parent = commentRepository.findById(requestDto.getParentId())
+                    .filter(found -> found.getStudyGroup().getId().equals(studyGroupId))
                     .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
+            if (parent.getPath() == null) {
+                parent.assignPath(); // 백필 전 부모: 깊이를 알아야 하므로 조상까지 경로를 먼저 채운다.
+            }
+            // 경로를 채우지 못한 부모는 경로 컬럼에 담을 수 없을 만큼 깊은 기존 답글이다.
+            if (parent.getPath() == null || parent.getDepth() >= maxDepth) {
+                throw new IllegalArgumentException("답글은 최대 " + maxDepth + "단계까지 달 수 있습니다.");
+            }
         }
 
         Comment comment = Comment.builder()
@@ -46,16 +84,69 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
-        return new CommentResponseDto(comment);
+        comment.assignPath(); // IDENTITY라 save 직후 ID가 정해짐. 경로는 커밋 시 함께 반영된다.
+        CommentResponseDto response = new CommentResponseDto(comment);
+        eventPublisher.publishEvent(new StudyGroupActivityEvent(studyGroupId, StudyGroupActivityEvent.Activity.COMMENT));
+        eventPublisher.publishEvent(new CommentCreatedEvent(studyGroupId, response));
+        return response;
+    }
+
+    // 최상위 댓글을 최신순으로 limit개씩, 각 댓글의 답글 수와 앞쪽 답글 inlineReplies개를 함께 반환한다.
+    // 스레드 크기와 상관없이 쿼리 4번(댓글, 앞쪽 답글, 답글 수 집계, 하위 트리 크기 집계)이며 응답 크기는 limit x (1 + inlineReplies)로 제한된다.
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentResponseDto> getComments(Long studyGroupId, int limit, String cursor) {
+        long beforeId = cursor == null ? Long.MAX_VALUE : decodeCursor(cursor);
+        List<Comment> comments = commentRepository.findRootPage(studyGroupId, beforeId, Limit.of(limit + 1));
+        String nextCursor = null;
+        if (comments.size() > limit) {
+            comments = comments.subList(0, limit);
+            nextCursor = encodeCursor(comments.get(limit - 1));
+        }
+        List<Comment> replies = comments.isEmpty() || inlineReplies == 0
+                ? List.of()
+                : commentRepository.findFirstReplies(idsOf(comments), inlineReplies);
+        return new CursorPageDto<>(toDtos(comments, replies), nextCursor);
     }
 
+    // 한 댓글의 답글을 오래된 순으로 limit개씩 (각 답글의 답글 수 포함)
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getComments(Long studyGroupId) {
-        // 👇 [수정] 최상위 댓글(부모가 null인 댓글)만 조회하면, DTO 변환 과정에서 자식들이 자동으로 딸려옵니다.
-        // 이를 위해 Repository에 메서드 추가가 필요합니다 (4단계 참고).
-        return commentRepository.findAllByStudyGroupIdAndParentIsNullOrderByCreatedAtDesc(studyGroupId).stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+    public CursorPageDto<CommentResponseDto> getReplies(Long commentId, int limit, String cursor) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+        }
+        long afterId = cursor == null ? 0 : decodeCursor(cursor);
+        List<Comment> replies = commentRepository.findReplyPage(commentId, afterId, Limit.of(limit + 1));
+        String nextCursor = null;
+        if (replies.size() > limit) {
+            replies = replies.subList(0, limit);
+            nextCursor = encodeCursor(replies.get(limit - 1));
+        }
+        return new CursorPageDto<>(toDtos(replies, List.of()), nextCursor);
+    }
+
+    // 한 댓글과 그 아래 모든 답글을 스레드 순서(깊이 우선, 형제는 오래된 순)로 limit개씩
+    // 경로 범위 조회 한 번이라 스레드 깊이와 상관없이 쿼리 수가 일정하다.
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentResponseDto> getThread(Long commentId, int limit, String cursor) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+        if (comment.getPath() == null) {
+            throw new IllegalArgumentException("댓글 정리 작업 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        String afterPath = "";
+        if (cursor != null) {
+            afterPath = CursorCodec.decode(cursor, 1)[0];
+            if (!afterPath.startsWith(comment.getPath())) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        List<Comment> thread = commentRepository.findSubtreePage(comment.getPath() + "%", afterPath, Limit.of(limit + 1));
+        String nextCursor = null;
+        if (thread.size() > limit) {
+            thread = thread.subList(0, limit);
+            nextCursor = CursorCodec.encode(thread.get(limit - 1).getPath());
+        }
+        return new CursorPageDto<>(toDtos(thread, List.of()), nextCursor);
     }
 
     @Transactional
@@ -68,6 +159,42 @@ public class CommentService {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
 
-        commentRepository.delete(comment);
+        if (comment.getPath() == null) {
+            throw new IllegalArgumentException("댓글 정리 작업 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        // 답글까지 경로 범위 DELETE 한 번으로 삭제 (엔티티를 하나씩 읽어 지우지 않음)
+        commentRepository.deleteSubtree(comment.getPath() + "%");
+    }
+
+    // 목록과 답글의 답글 수, 하위 트리 크기를 집계 쿼리 한 번씩으로 구해 DTO로 묶는다.
+    private List<CommentResponseDto> toDtos(List<Comment> comments, List<Comment> replies) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = idsOf(comments);
+        ids.addAll(idsOf(replies));
+        Map<Long, Long> replyCounts = commentRepository.countReplies(ids).stream()
+                .collect(Collectors.toMap(ReplyCount::getParentId, ReplyCount::getReplyCount));
+        List<Comment> all = new ArrayList<>(comments);
+        all.addAll(replies);
+        Map<Long, Long> threadSizes = commentRepository.countSubtrees(all);
+        return CommentResponseDto.withReplies(comments, replies, replyCounts, threadSizes);
+    }
+
+    private static List<Long> idsOf(List<Comment> comments) {
+        return comments.stream().map(Comment::getId).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // 커서는 마지막 댓글 ID (ID가 작성 순서이므로 keyset으로 충분)
+    private static String encodeCursor(Comment last) {
+        return CursorCodec.encode(last.getId());
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(CursorCodec.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
     }
 }
\ No newline at end of file
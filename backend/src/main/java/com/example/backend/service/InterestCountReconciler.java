@@ -0,0 +1,60 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.StudyGroupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// study_group.interest_count를 실제 interests 행 수에 맞춘다.
+// - 사용자 탈퇴로 찜이 함께 지워지는 등 InterestService를 거치지 않은 변경을 바로잡는다.
+// - 한 번에 전체 테이블을 잠그지 않도록 ID 범위(chunkSize)마다 따로 커밋한다.
+// - 컬럼이 처음 추가되면 모두 0이므로 애플리케이션 시작 시에도 한 번 실행한다.
+@Slf4j
+@Component
+public class InterestCountReconciler {
+
+    private final StudyGroupRepository studyGroupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InterestCountReconciler(StudyGroupRepository studyGroupRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${interest.reconcile.chunk-size:1000}") int chunkSize) {
+        this.studyGroupRepository = studyGroupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${interest.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("관심 수 보정이 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            long maxId = studyGroupRepository.findMaxId();
+            int repaired = 0;
+            for (long afterId = 0; afterId < maxId; afterId += chunkSize) {
+                long from = afterId;
+                Integer updated = transactionTemplate.execute(status ->
+                        studyGroupRepository.reconcileInterestCounts(from, from + chunkSize));
+                repaired += updated != null ? updated : 0;
+            }
+            if (repaired > 0) {
+                log.info("관심 수 보정: {}개 스터디 그룹 수정", repaired);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+}
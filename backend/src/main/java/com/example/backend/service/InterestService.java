@@ -4,14 +4,17 @@ import com.example.backend.dto.studygroup.StudyGroupListResponseDto;
 import com.example.backend.entity.Interest;
 import com.example.backend.entity.StudyGroup;
 import com.example.backend.entity.User;
+import com.example.backend.event.StudyGroupActivityEvent;
 import com.example.backend.repository.InterestRepository;
 import com.example.backend.repository.StudyGroupRepository;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,7 @@ public class InterestService {
     private final InterestRepository interestRepository;
     private final UserRepository userRepository;
     private final StudyGroupRepository studyGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 관심 스터디 토글 (있으면 삭제, 없으면 추가)
     public boolean toggleInterest(Long studyGroupId, UserDetails userDetails) {
@@ -31,21 +35,25 @@ public class InterestService {
         StudyGroup studyGroup = studyGroupRepository.findById(studyGroupId)
                 .orElseThrow(() -> new IllegalArgumentException("스터디 그룹을 찾을 수 없습니다."));
 
-        // 이미 찜했다면 삭제 (취소)
-        if (interestRepository.existsByUserAndStudyGroup(user, studyGroup)) {
-            Interest interest = interestRepository.findByUserAndStudyGroup(user, studyGroup)
-                    .orElseThrow();
-            interestRepository.delete(interest);
+        // 이미 찜했다면 삭제 (취소). 트렌딩 점수는 찜했던 시각 기준으로 되돌리므로 삭제 전에 추가 시각을 읽어 둔다.
+        LocalDateTime interestAddedAt = interestRepository.findByUserAndStudyGroup(user, studyGroup)
+                .map(Interest::getCreatedAt)
+                .orElse(null);
+        if (interestRepository.deleteByUserAndStudyGroup(user, studyGroup) > 0) {
+            studyGroupRepository.decrementInterestCount(studyGroupId);
+            eventPublisher.publishEvent(new StudyGroupActivityEvent(studyGroupId,
+                    StudyGroupActivityEvent.Activity.INTEREST_REMOVED, interestAddedAt));
             return false; // 찜 취소됨
-        } else {
-            // 찜하지 않았다면 추가
-            Interest interest = Interest.builder()
-                    .user(user)
-                    .studyGroup(studyGroup)
-                    .build();
-            interestRepository.save(interest);
-            return true; // 찜 완료됨
         }
+        // 찜하지 않았다면 추가 (동시에 두 번 추가되면 유니크 제약으로 한쪽이 롤백되어 관심 수도 함께 취소됨)
+        Interest interest = Interest.builder()
+                .user(user)
+                .studyGroup(studyGroup)
+                .build();
+        interestRepository.save(interest);
+        studyGroupRepository.incrementInterestCount(studyGroupId);
+        eventPublisher.publishEvent(new StudyGroupActivityEvent(studyGroupId, StudyGroupActivityEvent.Activity.INTEREST_ADDED));
+        return true; // 찜 완료됨
     }
 
     // 내 관심 스터디 목록 조회
@@ -1,19 +1,38 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorPageDto;
 import com.example.backend.dto.studygroup.RecommendedStudyGroupDto;
 import com.example.backend.entity.*;
+import com.example.backend.recommendation.CandidateIndex;
+import com.example.backend.recommendation.GoalIndex;
+import com.example.backend.recommendation.PrecomputedRecommendationStore;
+import com.example.backend.recommendation.RecommendationCache;
+import com.example.backend.recommendation.RecommendationQuery;
+import com.example.backend.recommendation.RecommendationScoringPool;
+import com.example.backend.recommendation.ScoredGroup;
+import com.example.backend.recommendation.SparseVector;
+import com.example.backend.recommendation.TagBitset;
+import com.example.backend.recommendation.TopKSelector;
+import com.example.backend.repository.StudyGroupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationService {
-    private final TagService tagService;
+    private final GoalIndex goalIndex;
+    private final CandidateIndex candidateIndex;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationScoringPool scoringPool;
+    private final PrecomputedRecommendationStore precomputedStore;
+    private final StudyGroupRepository studyGroupRepository;
 
     private static final double GOAL_WEIGHT = 0.4;        // 목표 텍스트 유사도
     private static final double TAG_WEIGHT = 0.3;         // 태그 일치도
@@ -21,46 +40,224 @@ public class RecommendationService {
     private static final double STUDY_STYLE_WEIGHT = 0.1; // 학습 스타일 일치도
     private static final double REGION_WEIGHT = 0.05;     // 지역 일치도 (오프라인/하이브리드만 해당)
 
+    private static final int MIN_CANDIDATES = 20; // 후보가 이보다 적으면 인기 스터디로 채움
+    private static final int CACHE_DEPTH = 200;   // 사용자별로 캐시해 두는 순위 개수
+    private static final int FETCH_CHUNK_SIZE = 500; // 후보 조회 시 IN 절 하나에 넣는 ID 개수
+
+    // limit개씩 페이지로 반환. cursor가 있으면 해당 (점수, ID) 이후 순위부터 이어서 반환한다.
     @Transactional(readOnly = true)
-    public List<RecommendedStudyGroupDto> calculateAndSortRecommendations(
+    public CursorPageDto<RecommendedStudyGroupDto> calculateAndSortRecommendations(
             User currentUser,
-            List<StudyGroup> allStudyGroups,
-            Set<Long> excludedGroupIds) {
-
-        // 1. TF-IDF를 위한 모든 목표 텍스트 수집 (기존 로직 유지)
-        List<String> allGoals = new ArrayList<>();
-        allStudyGroups.forEach(sg -> allGoals.add(sg.getGoal()));
-        allGoals.add(currentUser.getGoal());
-        Map<String, Double> idfVocabulary = calculateIdf(allGoals);
-        Map<String, Double> userTfIdfVector = createTfIdfVector(currentUser.getGoal(), idfVocabulary);
-
-        // 2. 각 스터디 그룹과의 다차원 매칭 점수 계산
-        return allStudyGroups.stream()
-                .filter(studyGroup -> !excludedGroupIds.contains(studyGroup.getId())) // 이미 가입/생성한 스터디 제외
-                .filter(studyGroup -> studyGroup.getRecruitmentDeadline() == null || !studyGroup.getRecruitmentDeadline().isBefore(LocalDate.now())) // 🌟 모집 마감된 스터디 제외
-                .map(studyGroup -> {
-                    double finalScore = calculateMultiDimensionalMatchScore(
-                            currentUser, studyGroup, idfVocabulary, userTfIdfVector);
-                    return new RecommendedStudyGroupDto(studyGroup, finalScore);
-                })
-                .filter(dto -> dto.getMatchScore() > 0) // 점수가 0 이상인 것만
-                .sorted(Comparator.comparing(RecommendedStudyGroupDto::getMatchScore).reversed())
+            Set<Long> excludedGroupIds,
+            int limit,
+            String cursor) {
+        ScoredGroup after = cursor != null && !cursor.isBlank() ? ScoredGroup.fromCursor(cursor) : null;
+        LocalDate today = LocalDate.now();
+
+        // 1. 캐시된 순위 -> 배치로 미리 계산된 순위 -> 즉시 계산(상위 CACHE_DEPTH개) 순으로 사용
+        //    계산 도중 무효화되면 결과를 캐시에 넣지 않는다. (이번 응답에는 그대로 사용)
+        RecommendationCache.CachedRecommendations cached = recommendationCache.get(currentUser.getId());
+        if (cached == null) {
+            long generation = recommendationCache.generation(currentUser.getId());
+            cached = precomputedStore.load(currentUser);
+            if (cached == null) {
+                cached = rank(currentUser, excludedGroupIds, CACHE_DEPTH, null);
+            }
+            recommendationCache.put(currentUser.getId(), cached, generation);
+        }
+
+        // 2. 캐시된 순위에서 페이지 추출 (캐시 이후 마감되었거나 가입한 스터디는 여기서 제외)
+        List<RecommendationCache.Entry> page = new ArrayList<>();
+        for (RecommendationCache.Entry entry : cached.entries()) {
+            if (excludedGroupIds.contains(entry.studyGroupId()) || entry.isClosed(today)) continue;
+            if (after != null && !ScoredGroup.ranksAfter(entry.score(), entry.studyGroupId(), after.score(), after.studyGroupId())) continue;
+            page.add(entry);
+            if (page.size() > limit) break; // 다음 페이지 존재 여부 확인용 +1
+        }
+        // 캐시 깊이를 넘어서는 페이지는 커서 이후부터 직접 계산
+        if (page.size() <= limit && cached.truncated()) {
+            page = rank(currentUser, excludedGroupIds, limit + 1, after).entries();
+        }
+
+        // 3. 페이지에 포함된 그룹만 조회하여 DTO 생성
+        boolean hasNext = page.size() > limit;
+        List<RecommendationCache.Entry> pageEntries = hasNext ? page.subList(0, limit) : page;
+        List<Long> pageIds = pageEntries.stream().map(RecommendationCache.Entry::studyGroupId).toList();
+        Map<Long, StudyGroup> studyGroupsById = pageIds.isEmpty() ? Collections.emptyMap() :
+                studyGroupRepository.findAllWithTagsAndDetailsByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(StudyGroup::getId, studyGroup -> studyGroup));
+        List<RecommendedStudyGroupDto> items = pageEntries.stream()
+                .filter(entry -> studyGroupsById.containsKey(entry.studyGroupId()))
+                .map(entry -> new RecommendedStudyGroupDto(studyGroupsById.get(entry.studyGroupId()), entry.score()))
                 .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            RecommendationCache.Entry last = pageEntries.get(pageEntries.size() - 1);
+            nextCursor = new ScoredGroup(last.studyGroupId(), last.score()).toCursor();
+        }
+        return new CursorPageDto<>(items, nextCursor);
     }
 
-    // 다차원 매칭 점수 계산 메서드
-    private double calculateMultiDimensionalMatchScore(
-            User user, StudyGroup studyGroup,
-            Map<String, Double> idfVocabulary,
-            Map<String, Double> userTfIdfVector) {
-
-        double goalSimilarityScore = 0.0;
-        if (userTfIdfVector != null && !userTfIdfVector.isEmpty()) {
-            Map<String, Double> groupTfIdfVector = createTfIdfVector(studyGroup.getGoal(), idfVocabulary);
-            goalSimilarityScore = calculateCosineSimilarity(userTfIdfVector, groupTfIdfVector);
+    // 추천 배치용: 상위 topN개 순위를 계산 (요청 경로와 같은 점수 계산 사용)
+    public RecommendationCache.CachedRecommendations precompute(User user, Set<Long> excludedGroupIds, int topN) {
+        return rank(user, excludedGroupIds, topN, null);
+    }
+
+    // 사용자가 이미 속해있거나, 생성한 스터디 그룹 ID 목록
+    public Set<Long> excludedGroupIdsOf(User user) {
+        Set<Long> excludedGroupIds = user.getStudyMemberships().stream() // studyMembers -> studyMemberships
+                .map(sm -> sm.getStudyGroup().getId())
+                .collect(Collectors.toSet());
+
+        user.getCreatedStudyGroups() // studyGroupRepository.findAllByCreator 대신 User 엔티티의 컬렉션 활용
+                .forEach(sg -> excludedGroupIds.add(sg.getId()));
+        return excludedGroupIds;
+    }
+
+    // 후보 생성 후 점수를 계산하여 (after 이후 순위 중) 상위 k개를 순위순으로 반환
+    private RecommendationCache.CachedRecommendations rank(
+            User currentUser, Set<Long> excludedGroupIds, int k, ScoredGroup after) {
+
+        // 1. 사용자 목표만 토큰화 (그룹 벡터와 IDF는 GoalIndex에 미리 계산되어 있음), 사용자 태그는 비트셋으로 한 번만 변환
+        SparseVector userTfIdfVector = goalIndex.vectorize(currentUser.getGoal());
+        TagBitset userTags = candidateIndex.toBitset(currentUser.getUserTags().stream()
+                .map(UserTag::getTag)
+                .toList());
+        RecommendationQuery query = new RecommendationQuery(currentUser, userTfIdfVector, userTags);
+
+        // 2. 후보 생성: 태그/목표 용어가 겹치는 그룹만 점수 계산 대상 (CandidateIndex에서 개수 상한 적용)
+        Set<Long> candidateIds = candidateIndex.findCandidates(query);
+        candidateIds.removeAll(excludedGroupIds);
+        if (candidateIds.size() < MIN_CANDIDATES) {
+            fillWithPopularGroups(candidateIds, excludedGroupIds);
+        }
+        if (candidateIds.isEmpty()) {
+            return new RecommendationCache.CachedRecommendations(Collections.emptyList(), false);
+        }
+        List<StudyGroup> candidates = findAllWithTagsAndDetails(candidateIds);
+
+        // 3. 후보 그룹과의 다차원 매칭 점수 계산 후 상위 k개만 유지 (후보가 많으면 전용 풀에서 병렬 계산)
+        LocalDate today = LocalDate.now();
+        ScoringTask scoringTask = new ScoringTask(query, candidates, 0, candidates.size(), excludedGroupIds, after, k, today);
+        ScoringResult result = candidates.size() >= scoringPool.getParallelThreshold()
+                ? scoringPool.invoke(scoringTask)
+                : scoringTask.compute();
+
+        // 4. 상위 항목의 마감일만 찾아 캐시 항목으로 변환
+        List<ScoredGroup> ranked = result.topK.toSortedList();
+        Map<Long, LocalDate> deadlines = new HashMap<>();
+        Set<Long> rankedIds = ranked.stream().map(ScoredGroup::studyGroupId).collect(Collectors.toSet());
+        for (StudyGroup studyGroup : candidates) {
+            if (rankedIds.contains(studyGroup.getId())) {
+                deadlines.put(studyGroup.getId(), studyGroup.getRecruitmentDeadline());
+            }
+        }
+        List<RecommendationCache.Entry> entries = ranked.stream()
+                .map(scored -> new RecommendationCache.Entry(
+                        scored.studyGroupId(), scored.score(), deadlines.get(scored.studyGroupId())))
+                .collect(Collectors.toList());
+        return new RecommendationCache.CachedRecommendations(entries, result.scoredCount > k);
+    }
+
+    // 구간별 상위 k개 힙과 점수 계산된 그룹 수
+    private static final class ScoringResult {
+        private final TopKSelector topK;
+        private int scoredCount;
+
+        private ScoringResult(int k) {
+            this.topK = new TopKSelector(k);
         }
 
-        double tagMatchScore = calculateTagMatchScore(user, studyGroup);
+        private ScoringResult merge(ScoringResult other) {
+            topK.offerAll(other.topK);
+            scoredCount += other.scoredCount;
+            return this;
+        }
+    }
+
+    // 후보 목록을 chunkSize 단위로 나누어 점수 계산 후 구간별 힙을 병합
+    // 순위는 (점수 내림차순, ID 오름차순)의 전순서이므로 병합 순서와 관계없이 결과가 같다.
+    private final class ScoringTask extends RecursiveTask<ScoringResult> {
+        private final RecommendationQuery query;
+        private final List<StudyGroup> candidates;
+        private final int from;
+        private final int to;
+        private final Set<Long> excludedGroupIds;
+        private final ScoredGroup after;
+        private final int k;
+        private final LocalDate today;
+
+        private ScoringTask(RecommendationQuery query, List<StudyGroup> candidates, int from, int to,
+                            Set<Long> excludedGroupIds, ScoredGroup after, int k, LocalDate today) {
+            this.query = query;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.excludedGroupIds = excludedGroupIds;
+            this.after = after;
+            this.k = k;
+            this.today = today;
+        }
+
+        @Override
+        protected ScoringResult compute() {
+            if (to - from > scoringPool.getChunkSize() && inForkJoinPool()) {
+                int mid = (from + to) >>> 1;
+                ScoringTask left = new ScoringTask(query, candidates, from, mid, excludedGroupIds, after, k, today);
+                ScoringTask right = new ScoringTask(query, candidates, mid, to, excludedGroupIds, after, k, today);
+                left.fork();
+                return right.compute().merge(left.join());
+            }
+
+            ScoringResult result = new ScoringResult(k);
+            for (int i = from; i < to; i++) {
+                StudyGroup studyGroup = candidates.get(i);
+                if (excludedGroupIds.contains(studyGroup.getId())) continue; // 이미 가입/생성한 스터디 제외
+                if (studyGroup.getRecruitmentDeadline() != null && studyGroup.getRecruitmentDeadline().isBefore(today)) continue; // 🌟 모집 마감된 스터디 제외
+
+                double finalScore = calculateMultiDimensionalMatchScore(query, studyGroup);
+                if (finalScore <= 0) continue; // 점수가 0보다 큰 것만
+                if (after != null && !ScoredGroup.ranksAfter(finalScore, studyGroup.getId(), after.score(), after.studyGroupId())) continue;
+
+                result.scoredCount++;
+                result.topK.offer(studyGroup.getId(), finalScore);
+            }
+            return result;
+        }
+    }
+
+    // 겹치는 조건이 거의 없는 사용자를 위해 인기순 스터디로 남은 자리를 채움
+    // fetch join 조회를 FETCH_CHUNK_SIZE개씩 나누어 IN 절 크기를 제한
+    private List<StudyGroup> findAllWithTagsAndDetails(Collection<Long> studyGroupIds) {
+        List<Long> ids = new ArrayList<>(studyGroupIds);
+        List<StudyGroup> studyGroups = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()));
+            studyGroups.addAll(studyGroupRepository.findAllWithTagsAndDetailsByIdIn(chunk));
+        }
+        return studyGroups;
+    }
+
+    private void fillWithPopularGroups(Set<Long> candidateIds, Set<Long> excludedGroupIds) {
+        List<Long> popularIds = studyGroupRepository.findIdsOrderByPopularity(
+                PageRequest.of(0, MIN_CANDIDATES + excludedGroupIds.size()));
+        for (Long id : popularIds) {
+            if (candidateIds.size() >= MIN_CANDIDATES) {
+                break;
+            }
+            if (!excludedGroupIds.contains(id)) {
+                candidateIds.add(id);
+            }
+        }
+    }
+
+    // 다차원 매칭 점수 계산 메서드
+    private double calculateMultiDimensionalMatchScore(RecommendationQuery query, StudyGroup studyGroup) {
+        User user = query.user();
+
+        double goalSimilarityScore = goalIndex.similarity(query.goalVector(), studyGroup);
+
+        double tagMatchScore = calculateTagMatchScore(query.tags(), studyGroup);
         double careerMatchScore = calculateCareerMatchScore(user, studyGroup);
         double studyStyleMatchScore = calculateStudyStyleMatchScore(user, studyGroup);
         double regionMatchScore = calculateRegionMatchScore(user, studyGroup);
@@ -80,24 +277,24 @@ public class RecommendationService {
     }
 
     // 태그 매칭 점수 계산 (0~100점)
-    private double calculateTagMatchScore(User user, StudyGroup studyGroup) {
-        Set<String> userTags = user.getUserTags().stream()
-                .map(ut -> tagService.normalizeTagName(ut.getTag().getName())) // 태그 이름 정규화
-                .collect(Collectors.toSet());
-        Set<String> groupTags = studyGroup.getStudyGroupTags().stream()
-                .map(sgt -> tagService.normalizeTagName(sgt.getTag().getName())) // 태그 이름 정규화
-                .collect(Collectors.toSet());
+    // 태그 이름은 TagDictionary에서 정규화된 서수로 미리 변환되어 있으므로 비트셋 AND + popcount로 계산
+    private double calculateTagMatchScore(TagBitset userTags, StudyGroup studyGroup) {
+        TagBitset groupTags = candidateIndex.tagsOf(studyGroup.getId());
+        if (groupTags == null) { // 아직 색인되지 않은 그룹
+            groupTags = candidateIndex.toBitset(studyGroup.getStudyGroupTags().stream()
+                    .map(StudyGroupTag::getTag)
+                    .toList());
+        }
 
         if (userTags.isEmpty() || groupTags.isEmpty()) {
             return 0.0;
         }
 
-        Set<String> commonTags = new HashSet<>(userTags);
-        commonTags.retainAll(groupTags);
+        int commonTags = userTags.intersectionSize(groupTags);
 
         // 공통 태그 수 / 사용자 태그 수 또는 스터디 그룹 태그 수 중 작은 값으로 정규화
         // 태그 매칭 비율에 비례하여 점수 부여
-        double matchRatio = (double) commonTags.size() / Math.min(userTags.size(), groupTags.size());
+        double matchRatio = (double) commonTags / Math.min(userTags.cardinality(), groupTags.cardinality());
         return matchRatio; // 0~1 사이의 값 반환, 나중에 최종 점수 계산 시 가중치 적용
     }
 
@@ -157,103 +354,4 @@ public class RecommendationService {
         // 오프라인 또는 하이브리드 스터디일 경우 지역 비교
         return userRegion.equalsIgnoreCase(groupRegion) ? 1.0 : 0.0; // 지역 일치하면 1, 아니면 0
     }
-
-    // --- TF-IDF 및 코사인 유사도 계산 구현 ---
-
-    private Map<String, Double> createTfIdfVector(String text, Map<String, Double> idfVocabulary) {
-        if (text == null || text.isBlank()) {
-            return Collections.emptyMap();
-        }
-        List<String> tokens = tokenize(text);
-        Map<String, Long> tf = calculateTf(tokens);
-        Map<String, Double> tfIdfVector = new HashMap<>();
-
-        for (String term : tf.keySet()) {
-            if (idfVocabulary.containsKey(term)) {
-                double tfValue = tf.get(term);
-                double idfValue = idfVocabulary.get(term);
-                tfIdfVector.put(term, tfValue * idfValue);
-            }
-        }
-        return tfIdfVector;
-    }
-
-    private Map<String, Double> calculateIdf(List<String> documents) {
-        Map<String, Double> idfMap = new HashMap<>();
-        if (documents == null || documents.isEmpty()) {
-            return idfMap;
-        }
-
-        long totalDocuments = documents.size();
-        Map<String, Integer> docCount = new HashMap<>();
-
-        for (String doc : documents) {
-            if (doc == null || doc.isBlank()) continue;
-            Set<String> uniqueTokens = new HashSet<>(tokenize(doc));
-            for (String token : uniqueTokens) {
-                docCount.put(token, docCount.getOrDefault(token, 0) + 1);
-            }
-        }
-
-        for (String term : docCount.keySet()) {
-            double idf = Math.log((double) totalDocuments / (1 + docCount.get(term)));
-            idfMap.put(term, idf);
-        }
-        return idfMap;
-    }
-
-    private Map<String, Long> calculateTf(List<String> tokens) {
-        Map<String, Long> tfMap = new HashMap<>();
-        for (String token : tokens) {
-            tfMap.put(token, tfMap.getOrDefault(token, 0L) + 1);
-        }
-        return tfMap;
-    }
-
-    private List<String> tokenize(String text) {
-        if (text == null || text.isBlank()) {
-            return Collections.emptyList();
-        }
-        // 한글/영문 숫자 제외 특수문자 제거 및 소문자 변환
-        String cleanedText = text.replaceAll("[^a-zA-Z0-9가-힣\\s]", " ").toLowerCase();
-        String[] words = cleanedText.split("\\s+");
-
-        return Arrays.stream(words)
-                .filter(word -> !word.isBlank() && word.length() > 1) // 1글자 단어 제외
-                .collect(Collectors.toList());
-    }
-
-    private double calculateCosineSimilarity(Map<String, Double> vec1, Map<String, Double> vec2) {
-        if (vec1 == null || vec1.isEmpty() || vec2 == null || vec2.isEmpty()) {
-            return 0.0;
-        }
-
-        Set<String> intersection = new HashSet<>(vec1.keySet());
-        intersection.retainAll(vec2.keySet());
-
-        if (intersection.isEmpty()) {
-            return 0.0;
-        }
-
-        double dotProduct = 0.0;
-        for (String term : intersection) {
-            dotProduct += vec1.get(term) * vec2.get(term);
-        }
-
-        double norm1 = 0.0;
-        for (double val : vec1.values()) {
-            norm1 += Math.pow(val, 2);
-        }
-
-        double norm2 = 0.0;
-        for (double val : vec2.values()) {
-            norm2 += Math.pow(val, 2);
-        }
-
-        if (norm1 == 0.0 || norm2 == 0.0) {
-            return 0.0;
-        }
-
-        return dotProduct / (Math.sqrt(norm1) * Math.sqrt(norm2));
-    }
-}
\ No newline at end of file
+}
@@ -1,12 +1,25 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorPageDto;
 import com.example.backend.dto.studygroup.*;
 import com.example.backend.entity.*;
+import com.example.backend.event.StudyGroupActivityEvent;
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.recommendation.ScoredGroup;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.StudyGroupCursor;
 import com.example.backend.repository.StudyGroupRepository;
+import com.example.backend.repository.StudyGroupSort;
+import com.example.backend.repository.StudyGroupSpecifications;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.search.AutocompleteIndex;
+import com.example.backend.search.StudyGroupSearchIndex;
+import com.example.backend.trending.TrendingIndex;
+import com.example.backend.view.UniqueViewCounter;
+import com.example.backend.view.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,8 +43,18 @@ public class StudyGroupService {
 
     private final StudyGroupRepository studyGroupRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
     private final TagService tagService;
     private final RecommendationService recommendationService;
+    private final StudyGroupSearchIndex studyGroupSearchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final TrendingIndex trendingIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String TRENDING_SORT = "trending";
+    private static final int MAX_RANKED_SCAN = 1_000; // 검색/트렌딩 페이지 하나를 채우려고 훑는 순위 항목 수 상한
 
     // 스터디 그룹 생성
     @Transactional
@@ -53,102 +81,147 @@ public class StudyGroupService {
         // 태그 처리 로직 (기존 코드 유지)
         tagService.processStudyGroupTags(savedStudyGroup, requestDto.getTags());
 
+        // 커밋 이후 추천 인덱스 갱신
+        eventPublisher.publishEvent(new StudyGroupChangedEvent(savedStudyGroup.getId(), StudyGroupChangedEvent.Type.CREATED));
+
         // 생성된 스터디 그룹의 상세 정보를 DTO로 변환하여 반환
         return new StudyGroupDetailResponseDto(savedStudyGroup);
     }
 
 
     // 스터디 그룹 전체 조회 (필터링 적용)
+    // 검색어가 있으면 관련도(BM25) 순으로 limit개씩, 다음 페이지 커서와 함께 반환한다.
+    // 검색어가 없으면 지역/주제/방식/모집 여부/마감 기간 조건과 정렬을 한 번의 쿼리(LIMIT 포함)로 조회하고,
+    // 다음 페이지는 마지막 항목의 (정렬 키, ID) 커서 이후부터 읽는다.
     @Transactional(readOnly = true)
-    public List<StudyGroupListResponseDto> findAllStudyGroup(String region, String sort, String search, String topic, String studyStyle, Boolean recruiting) {
-        List<StudyGroup> studyGroups;
-        boolean hasRegion = region != null && !region.isBlank();
-        boolean hasSearch = search != null && !search.isBlank();
-
-        // 1. 기본 조회 (검색어 유무에 따라)
-        if (hasSearch) {
-            List<StudyGroup> allGroups = studyGroupRepository.findAllWithTags();
-            String lowerCaseSearch = search.toLowerCase();
-            studyGroups = allGroups.stream()
-                    .filter(group ->
-                        group.getTitle().toLowerCase().contains(lowerCaseSearch) ||
-                        group.getTopic().toLowerCase().contains(lowerCaseSearch) ||
-                        group.getDescription().toLowerCase().contains(lowerCaseSearch) ||
-                        group.getCreator().getNickname().toLowerCase().contains(lowerCaseSearch) ||
-                        (group.getRegion() != null && group.getRegion().toLowerCase().contains(lowerCaseSearch)) ||
-                        group.getStudyGroupTags().stream()
-                                .anyMatch(sgTag -> sgTag.getTag().getName().toLowerCase().contains(lowerCaseSearch))
-                    )
-                    .collect(Collectors.toList());
-        } else {
-            // 검색어가 없을 경우: 기존 region/sort 로직 유지
-            if (hasRegion) {
-                studyGroups = switch (sort) {
-                    case "popular" -> studyGroupRepository.findAllByRegionOrderByPopularity(region, PageRequest.of(0, 100)); // 조회 제한 수 증가 (10 -> 100)
-                    case "deadline" -> studyGroupRepository.findAllByRegionAndRecruitmentDeadlineBetweenOrderByRecruitmentDeadlineAsc(
-                            region, LocalDate.now(), LocalDate.now().plusDays(7)); // 1주일 이내 마감
-                    case "viewCount" -> studyGroupRepository.findAllByRegionOrderByViewCount(region, PageRequest.of(0, 100)); // 조회순
-                    default -> studyGroupRepository.findAllByRegionOrderByIdDesc(region);
-                };
-            } else {
-                studyGroups = switch (sort) {
-                    case "popular" -> studyGroupRepository.findAllOrderByPopularity(PageRequest.of(0, 100));
-                    case "deadline" -> studyGroupRepository.findAllByRecruitmentDeadlineBetweenOrderByRecruitmentDeadlineAsc(
-                            LocalDate.now(), LocalDate.now().plusDays(7)); // 1주일 이내 마감
-                    case "viewCount" -> studyGroupRepository.findAllOrderByViewCount(PageRequest.of(0, 100)); // 조회순
-                    default -> studyGroupRepository.findAll(Sort.by(Sort.Direction.DESC, "id"));
-                };
-            }
+    public CursorPageDto<StudyGroupListResponseDto> findAllStudyGroup(String region, String sort, String search, String topic, String studyStyle, Boolean recruiting,
+                                                                      int limit, String cursor) {
+        if (search != null && !search.isBlank()) {
+            return rankedStudyGroups((k, after) -> studyGroupSearchIndex.search(search, k, after),
+                    group -> matchesFilters(group, region, topic, studyStyle, recruiting), limit, cursor);
+        }
+        // 트렌딩: 메모리의 시간 감쇠 점수 순위에서 바로 읽는다.
+        if (TRENDING_SORT.equals(sort)) {
+            return rankedStudyGroups(trendingIndex::top,
+                    group -> matchesFilters(group, region, topic, studyStyle, recruiting), limit, cursor);
+        }
+
+        LocalDate today = LocalDate.now();
+        StudyGroupSort studyGroupSort = StudyGroupSort.from(sort);
+        StudyGroupCursor after = cursor != null && !cursor.isBlank() ? StudyGroupCursor.fromCursor(cursor, studyGroupSort) : null;
+        Specification<StudyGroup> spec = Specification.where(StudyGroupSpecifications.regionEquals(region))
+                .and(StudyGroupSpecifications.topicContains(topic))
+                .and(StudyGroupSpecifications.studyStyleEquals(studyStyle))
+                .and(StudyGroupSpecifications.recruitingOn(recruiting, today));
+        if (studyGroupSort == StudyGroupSort.DEADLINE) {
+            spec = spec.and(StudyGroupSpecifications.deadlineBetween(today, today.plusDays(7))); // 1주일 이내 마감
         }
 
-        // 2. 추가 필터링 (Topic, StudyStyle, Recruiting, Region) - Stream API 사용
-        // Stream을 다시 생성하여 필터링 적용
-        return studyGroups.stream()
-                .filter(group -> {
-                    // Region 필터 (검색어가 있어서 DB에서 필터링되지 않은 경우를 대비해 여기서도 처리)
-                    // *주의*: 검색어가 없을 때는 이미 DB에서 region으로 필터링되어 넘어오지만, 중복 체크해도 무방함.
-                    if (region != null && !region.isBlank()) {
-                         if (!group.getRegion().equals(region)) { // 정확히 일치하는지 확인
-                             return false;
-                         }
-                    }
-                    // Topic 필터 (포함 여부)
-                    if (topic != null && !topic.isBlank()) {
-                        if (!group.getTopic().toLowerCase().contains(topic.toLowerCase())) {
-                            return false;
-                        }
-                    }
-                    // StudyStyle 필터 (정확 일치)
-                    if (studyStyle != null && !studyStyle.isBlank()) {
-                        // StudyStyle Enum String 비교
-                        if (!group.getStudyStyle().name().equalsIgnoreCase(studyStyle)) {
-                            return false;
-                        }
-                    }
-                    // Recruiting 필터 (모집 중만 보기)
-                    if (recruiting != null && recruiting) {
-                        if (group.getRecruitmentDeadline().isBefore(LocalDate.now())) {
-                            return false;
-                        }
-                    }
-                    return true;
-                })
+        // 다음 페이지 존재 여부 확인용 +1
+        List<StudyGroup> studyGroups = studyGroupRepository.findAll(spec, studyGroupSort, after, limit + 1);
+        String nextCursor = null;
+        if (studyGroups.size() > limit) {
+            studyGroups = studyGroups.subList(0, limit);
+            nextCursor = StudyGroupCursor.of(studyGroupSort, studyGroups.get(limit - 1)).toCursor();
+        }
+        List<StudyGroupListResponseDto> items = studyGroups.stream()
                 .map(StudyGroupListResponseDto::new)
                 .collect(Collectors.toList());
+        return new CursorPageDto<>(items, nextCursor);
+    }
+
+    // 인메모리 순위(검색 관련도, 트렌딩)에서 상위 그룹 ID만 찾은 뒤, 해당 그룹만 생성자/태그와 함께 조회하여 필터 적용
+    // 필터에 걸러져 limit개가 안 되면 마지막으로 본 순위 다음부터 새 구간만 (구간 크기를 늘려 가며) 더 요청한다.
+    // 한 요청에서 훑는 순위는 MAX_RANKED_SCAN개까지이며, 넘으면 채운 만큼과 마지막으로 본 위치의 커서를 반환한다.
+    private CursorPageDto<StudyGroupListResponseDto> rankedStudyGroups(BiFunction<Integer, ScoredGroup, List<ScoredGroup>> ranking,
+                                                                       Predicate<StudyGroup> filter, int limit, String cursor) {
+        ScoredGroup position = cursor != null && !cursor.isBlank() ? ScoredGroup.fromCursor(cursor) : null;
+        List<StudyGroupListResponseDto> items = new ArrayList<>();
+        ScoredGroup last = null;
+        int k = limit + 1; // 다음 페이지 존재 여부 확인용 +1
+        int scanned = 0;
+        while (true) {
+            List<ScoredGroup> ranked = ranking.apply(k, position);
+            Map<Long, StudyGroup> groupsById = ranked.isEmpty() ? Collections.emptyMap() :
+                    studyGroupRepository.findAllWithTagsAndDetailsByIdIn(ranked.stream().map(ScoredGroup::studyGroupId).toList()).stream()
+                            .collect(Collectors.toMap(StudyGroup::getId, group -> group));
+
+            for (ScoredGroup scored : ranked) {
+                StudyGroup group = groupsById.get(scored.studyGroupId());
+                if (group == null || !filter.test(group)) continue;
+                if (items.size() == limit) {
+                    return new CursorPageDto<>(items, last.toCursor());
+                }
+                items.add(new StudyGroupListResponseDto(group));
+                last = scored;
+            }
+            if (ranked.size() < k) {
+                return new CursorPageDto<>(items, null); // 더 이상 일치하는 그룹 없음
+            }
+            scanned += ranked.size();
+            position = ranked.get(ranked.size() - 1);
+            if (scanned >= MAX_RANKED_SCAN) {
+                return new CursorPageDto<>(items, position.toCursor()); // 다음 요청이 여기서부터 이어서 훑는다.
+            }
+            k = Math.min(k * 2, MAX_RANKED_SCAN - scanned);
+        }
+    }
+
+    private boolean matchesFilters(StudyGroup group, String region, String topic, String studyStyle, Boolean recruiting) {
+        // 검색 결과는 인덱스에서 오므로 필터를 여기서 적용한다. (검색어가 없을 때는 StudyGroupSpecifications로 DB에서 처리)
+        if (region != null && !region.isBlank()) {
+             if (!region.equals(group.getRegion())) { // 정확히 일치하는지 확인
+                 return false;
+             }
+        }
+        // Topic 필터 (포함 여부)
+        if (topic != null && !topic.isBlank()) {
+            if (!group.getTopic().toLowerCase().contains(topic.toLowerCase())) {
+                return false;
+            }
+        }
+        // StudyStyle 필터 (정확 일치)
+        if (studyStyle != null && !studyStyle.isBlank()) {
+            // StudyStyle Enum String 비교
+            if (!group.getStudyStyle().name().equalsIgnoreCase(studyStyle)) {
+                return false;
+            }
+        }
+        // Recruiting 필터 (모집 중만 보기)
+        if (recruiting != null && recruiting) {
+            if (group.getRecruitmentDeadline().isBefore(LocalDate.now())) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
 
     // 스터디 그룹 단일 조회
-    @Transactional
-    public StudyGroupDetailResponseDto findStudyGroupById(Long groupId) {
+    // 조회수와 고유 조회자는 ViewCountBuffer, UniqueViewCounter에 모았다가 주기적으로 반영하므로 이 조회는 읽기 전용이다.
+    @Transactional(readOnly = true)
+    public StudyGroupDetailResponseDto findStudyGroupById(Long groupId, String viewerKey) {
         StudyGroup studyGroup = studyGroupRepository.findById(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 스터디 그룹을 찾을 수 없습니다."));
-        
-        // 조회수 증가
-        studyGroup.incrementViewCount();
-        
-        return new StudyGroupDetailResponseDto(studyGroup);
+
+        long pendingViews = viewCountBuffer.record(groupId);
+        uniqueViewCounter.record(groupId, viewerKey);
+        eventPublisher.publishEvent(new StudyGroupActivityEvent(groupId, StudyGroupActivityEvent.Activity.VIEW));
+
+        return new StudyGroupDetailResponseDto(studyGroup, studyGroup.getViewCount() + pendingViews);
+    }
+
+    // 기간(from~to, 포함) 동안의 고유 조회자 수 (일별 스케치 합산 추정값)
+    @Transactional(readOnly = true)
+    public UniqueViewCountDto countUniqueViewers(Long groupId, LocalDate from, LocalDate to) {
+        if (!studyGroupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("해당 스터디 그룹을 찾을 수 없습니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return new UniqueViewCountDto(groupId, from, to, uniqueViewCounter.countBetween(groupId, from, to));
     }
 
     // 그룹장 -> 스터디 그룹 수정
@@ -167,6 +240,8 @@ public class StudyGroupService {
 
         studyGroup.update(requestDto);
 
+        eventPublisher.publishEvent(new StudyGroupChangedEvent(studyGroup.getId(), StudyGroupChangedEvent.Type.UPDATED));
+
         // 변경된 studyGroup을 영속성 컨텍스트가 자동으로 감지하므로, DTO로 변환하여 반환
         return new StudyGroupDetailResponseDto(studyGroup);
     }
@@ -181,30 +256,33 @@ public class StudyGroupService {
             throw new IllegalArgumentException("스터디 그룹을 삭제할 권한이 없습니다.");
         }
 
+        // 댓글은 엔티티 단위 cascade 대신 DELETE 한 번으로 지운 뒤 그룹을 삭제한다.
+        commentRepository.deleteAllByStudyGroupId(groupId);
         studyGroupRepository.delete(studyGroup);
+
+        eventPublisher.publishEvent(new StudyGroupChangedEvent(groupId, StudyGroupChangedEvent.Type.DELETED));
+    }
+
+    // 태그 이름/스터디 그룹 제목 자동완성 (초성 검색 지원, DB 조회 없음)
+    public List<AutocompleteSuggestionDto> autocomplete(String query, int limit) {
+        return autocompleteIndex.suggest(query, limit).stream()
+                .map(AutocompleteSuggestionDto::new)
+                .toList();
     }
 
     // 🌟 [수정/확장] 스터디 그룹 추천 목록 (다차원 점수 기반 추천 알고리즘)
     @Transactional(readOnly = true)
-    public List<RecommendedStudyGroupDto> recommendStudyGroups(UserDetails userDetails) {
+    public CursorPageDto<RecommendedStudyGroupDto> recommendStudyGroups(UserDetails userDetails, int limit, String cursor) {
         // 🌟 [수정] UserRepository에 FETCH JOIN 추가 (N+1 문제 방지 및 Lazy 로딩 문제 해결)
         // findByEmailWithDetails는 userTags, studyMemberships, createdStudyGroups를 FETCH JOIN 해야 함
         User currentUser = userRepository.findByEmailWithDetails(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 사용자가 이미 속해있거나, 생성한 스터디 그룹 ID 목록을 미리 준비
-        Set<Long> excludedGroupIds = currentUser.getStudyMemberships().stream() // studyMembers -> studyMemberships
-                .map(sm -> sm.getStudyGroup().getId())
-                .collect(Collectors.toSet());
-
-        currentUser.getCreatedStudyGroups() // studyGroupRepository.findAllByCreator 대신 User 엔티티의 컬렉션 활용
-                .forEach(sg -> excludedGroupIds.add(sg.getId()));
-
-        // 🌟 [수정] 모든 스터디 그룹을 가져올 때 Tag 정보도 함께 FETCH JOIN
-        List<StudyGroup> allStudyGroups = studyGroupRepository.findAllWithTagsAndDetails(); // 새로운 메서드 필요
+        Set<Long> excludedGroupIds = recommendationService.excludedGroupIdsOf(currentUser);
 
-        // 🌟 추천 로직을 RecommendationService로 위임
-        return recommendationService.calculateAndSortRecommendations(currentUser, allStudyGroups, excludedGroupIds);
+        // 🌟 추천 로직을 RecommendationService로 위임 (후보 그룹만 조회하여 점수 계산)
+        return recommendationService.calculateAndSortRecommendations(currentUser, excludedGroupIds, limit, cursor);
     }
 
     // 👈 [추가] 내가 참여 중인 스터디 그룹 목록 조회
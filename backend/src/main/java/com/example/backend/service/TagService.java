@@ -1,21 +1,27 @@
 package com.example.backend.service;
 
 import com.example.backend.entity.*;
+import com.example.backend.event.TagCreatedEvent;
 import com.example.backend.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TagService {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 스터디 그룹 태그 처리
     // 🌟 [수정] 스터디 그룹 태그 처리 - UserTags 처리와 동일하게 비교 로직 적용
@@ -80,10 +86,15 @@ public class TagService {
         String normalizedTagName = normalizeTagName(tagName);
 
         return tagRepository.findByName(normalizedTagName)
-                .orElseGet(() -> tagRepository.save(new Tag(normalizedTagName)));
+                .orElseGet(() -> {
+                    Tag savedTag = tagRepository.save(new Tag(normalizedTagName));
+                    eventPublisher.publishEvent(new TagCreatedEvent(savedTag.getId(), savedTag.getName()));
+                    return savedTag;
+                });
     }
 
-    String normalizeTagName(String name) {
-        return name.trim().toLowerCase().replaceAll("\\s+", "");
+    // 정규식은 미리 컴파일해 두고 재사용
+    public static String normalizeTagName(String name) {
+        return WHITESPACE.matcher(name.trim().toLowerCase()).replaceAll("");
     }
 }
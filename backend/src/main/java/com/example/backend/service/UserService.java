@@ -5,9 +5,11 @@ import com.example.backend.dto.user.UserProfileResponseDto;
 import com.example.backend.dto.user.UserProfileUpdateRequestDto;
 import com.example.backend.dto.user.UserSignupRequestDto;
 import com.example.backend.entity.User;
+import com.example.backend.event.UserProfileChangedEvent;
 import com.example.backend.jwt.JwtTokenProvider;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입
     @Transactional
@@ -64,6 +67,9 @@ public class UserService {
         currentUser.updateProfile(requestDto);
 
         tagService.processUserTags(currentUser, requestDto.getTags());
+
+        // 커밋 이후 추천 캐시 등 사용자 기반 데이터 무효화
+        eventPublisher.publishEvent(new UserProfileChangedEvent(currentUser.getId()));
     }
 
     public UserProfileResponseDto getMyProfile(UserDetails userDetails) {
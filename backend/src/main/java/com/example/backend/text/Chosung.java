@@ -0,0 +1,40 @@
+package com.example.backend.text;
+
+// 한글 음절을 초성(호환용 자모 ㄱ~ㅎ)으로 바꾼다. ("스프링" -> "ㅅㅍㄹ")
+// 음절이 아닌 문자(영문, 숫자, 이미 자모인 문자)는 그대로 둔다.
+public final class Chosung {
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21개 x 종성 28개
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Chosung() {
+    }
+
+    public static String of(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) {
+                chars[i] = CHOSUNG[(c - HANGUL_SYLLABLE_START) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+        return new String(chars);
+    }
+
+    // 초성으로 쓰이는 자음(ㄱ~ㅎ)이 하나라도 있는지
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.text;
+
+import java.util.Arrays;
+
+// Tokenizer 출력용 재사용 버퍼. 스레드마다 하나씩 두고 clear() 후 재사용한다. (스레드 안전하지 않음)
+public final class TokenBuffer {
+
+    private String[] tokens = new String[16];
+    private int size;
+
+    // 토큰 문자 조립용 작업 공간
+    private char[] scratch = new char[32];
+
+    public void clear() {
+        Arrays.fill(tokens, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return tokens[index];
+    }
+
+    void add(String token) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+        }
+        tokens[size++] = token;
+    }
+
+    char[] scratch(int capacity) {
+        if (scratch.length < capacity) {
+            scratch = new char[Math.max(capacity, scratch.length * 2)];
+        }
+        return scratch;
+    }
+}
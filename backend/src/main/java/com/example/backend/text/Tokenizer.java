@@ -0,0 +1,90 @@
+package com.example.backend.text;
+
+// 정규식 없이 코드 포인트를 한 번만 훑는 토크나이저 (추천, 검색 공용)
+// - 영문/숫자/한글 음절(가-힣)이 연속된 구간을 하나의 단어로 보고, 나머지 문자는 모두 구분자로 취급한다.
+// - 영문 대문자는 소문자로 바꾼다.
+// - 한 글자 영문/숫자는 버리지만, 한 글자 한글(예: "책", "일")은 의미가 있으므로 유지한다.
+// - hangulBigrams가 켜져 있으면 단어 안의 연속된 한글 음절로 2-gram을 추가로 낸다. ("스프링부트" -> 스프, 프링, 링부, 부트)
+public final class Tokenizer {
+
+    // 추천(목표 유사도)용: 단어만
+    public static final Tokenizer WORDS = new Tokenizer(false);
+
+    // 검색용: 단어 + 한글 2-gram (조사가 붙은 단어나 부분 일치 대응)
+    public static final Tokenizer WORDS_AND_HANGUL_BIGRAMS = new Tokenizer(true);
+
+    private static final char HANGUL_SYLLABLE_START = '가'; // 가
+    private static final char HANGUL_SYLLABLE_END = '힣';   // 힣
+
+    private final boolean hangulBigrams;
+
+    public Tokenizer(boolean hangulBigrams) {
+        this.hangulBigrams = hangulBigrams;
+    }
+
+    // out을 비우고 text의 토큰을 채운다.
+    public void tokenize(CharSequence text, TokenBuffer out) {
+        out.clear();
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        char[] scratch = out.scratch(length);
+        int tokenLength = 0;
+        boolean hasHangul = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c)) {
+                // BMP 밖의 문자(이모지 등)는 구분자
+                tokenLength = flush(scratch, tokenLength, hasHangul, out);
+                hasHangul = false;
+                i += Character.charCount(Character.codePointAt(text, i));
+                continue;
+            }
+            char normalized = normalize(c);
+            if (normalized != 0) {
+                scratch[tokenLength++] = normalized;
+                hasHangul |= isHangulSyllable(normalized);
+            } else {
+                tokenLength = flush(scratch, tokenLength, hasHangul, out);
+                hasHangul = false;
+            }
+            i++;
+        }
+        flush(scratch, tokenLength, hasHangul, out);
+    }
+
+    private int flush(char[] scratch, int tokenLength, boolean hasHangul, TokenBuffer out) {
+        if (tokenLength == 0) {
+            return 0;
+        }
+        if (tokenLength > 1 || hasHangul) {
+            out.add(new String(scratch, 0, tokenLength));
+        }
+        if (hangulBigrams && hasHangul && tokenLength > 2) {
+            for (int j = 0; j + 1 < tokenLength; j++) {
+                if (isHangulSyllable(scratch[j]) && isHangulSyllable(scratch[j + 1])) {
+                    out.add(new String(scratch, j, 2));
+                }
+            }
+        }
+        return 0;
+    }
+
+    // 토큰에 포함되는 문자면 정규화된 문자, 구분자면 0
+    private static char normalize(char c) {
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || isHangulSyllable(c)) {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return 0;
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END;
+    }
+}
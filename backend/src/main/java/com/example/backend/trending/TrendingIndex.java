@@ -0,0 +1,137 @@
+package com.example.backend.trending;
+
+import com.example.backend.event.StudyGroupActivityEvent.Activity;
+import com.example.backend.recommendation.ScoredGroup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 시간 감쇠(반감기) 트렌딩 점수 인덱스
+// - 활동 하나의 현재 가치는 weight * 2^(-(지금 - 활동 시각) / 반감기) 이다.
+//   모든 그룹에 같은 "지금"이 적용되므로, 기준 시각(landmark) 대비 weight * e^(λ(활동 시각 - landmark))를 더해 두면
+//   순위는 그대로 유지된다. (forward decay) 따라서 활동마다 한 그룹의 점수만 O(1)로 더하고, 기존 점수를 다시 계산하지 않는다.
+// - 점수 순 정렬은 ConcurrentSkipListSet으로 유지하여 상위 N개와 커서 이후 페이지를 O(log n + N)으로 읽는다.
+// - 지수가 너무 커지면(반감기 24시간 기준 약 2년) 기준 시각을 옮기며 전체 점수를 한 번 줄인다. 이때 발급된 커서는 위치가 어긋날 수 있다.
+@Component
+public class TrendingIndex {
+
+    private static final double MAX_EXPONENT = 500; // e^500 < Double.MAX_VALUE (e^709)
+
+    private final double decayPerSecond;
+    private final Map<Activity, Double> weights = new EnumMap<>(Activity.class);
+    private final double createdWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 읽기 락: 점수 갱신, 쓰기 락: 기준 시각 이동
+    private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<ScoredGroup> ranking = new ConcurrentSkipListSet<>(ScoredGroup.RANKING);
+    private volatile long landmarkEpochSecond = Instant.now().getEpochSecond();
+
+    public TrendingIndex(@Value("${trending.half-life-hours:24}") double halfLifeHours,
+                         @Value("${trending.weight.view:1}") double viewWeight,
+                         @Value("${trending.weight.interest:5}") double interestWeight,
+                         @Value("${trending.weight.application:8}") double applicationWeight,
+                         @Value("${trending.weight.comment:3}") double commentWeight,
+                         @Value("${trending.weight.created:10}") double createdWeight) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("트렌딩 반감기는 0보다 커야 합니다.");
+        }
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        weights.put(Activity.VIEW, viewWeight);
+        weights.put(Activity.INTEREST_ADDED, interestWeight);
+        weights.put(Activity.INTEREST_REMOVED, -interestWeight); // 찜이 추가된 시각으로 기록하면 그때 더한 만큼만 정확히 되돌린다.
+        weights.put(Activity.APPLICATION, applicationWeight);
+        weights.put(Activity.COMMENT, commentWeight);
+        this.createdWeight = createdWeight;
+    }
+
+    // INTEREST_REMOVED는 취소 시각이 아니라 찜이 추가되었던 시각으로 기록해야 한다.
+    public void record(long studyGroupId, Activity activity, Instant at) {
+        add(studyGroupId, weights.get(activity), at);
+    }
+
+    // 새 그룹도 활동이 쌓이기 전까지 목록에 나오도록 생성 시점에 점수를 준다.
+    public void recordCreated(long studyGroupId, Instant at) {
+        add(studyGroupId, createdWeight, at);
+    }
+
+    public void remove(long studyGroupId) {
+        lock.readLock().lock();
+        try {
+            scores.computeIfPresent(studyGroupId, (id, score) -> {
+                ranking.remove(new ScoredGroup(id, score));
+                return null;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            ranking.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트렌딩 점수 상위 k개 (after가 있으면 그 다음부터). 점수는 기준 시각 대비 값이라 그룹 간 비교에만 의미가 있다.
+    public List<ScoredGroup> top(int k, ScoredGroup after) {
+        List<ScoredGroup> result = new ArrayList<>(k);
+        Iterator<ScoredGroup> iterator = after == null ? ranking.iterator() : ranking.tailSet(after, false).iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private void add(long studyGroupId, double weight, Instant at) {
+        if (weight == 0) {
+            return;
+        }
+        if (decayPerSecond * (at.getEpochSecond() - landmarkEpochSecond) > MAX_EXPONENT) {
+            moveLandmark(at.getEpochSecond());
+        }
+        lock.readLock().lock();
+        try {
+            double value = weight * Math.exp(decayPerSecond * (at.getEpochSecond() - landmarkEpochSecond));
+            // compute는 같은 그룹의 갱신을 직렬화하므로 정렬 집합의 이전 항목 제거와 새 항목 추가가 어긋나지 않는다.
+            scores.compute(studyGroupId, (id, score) -> {
+                double updated = (score != null ? score : 0) + value;
+                if (score != null) {
+                    ranking.remove(new ScoredGroup(id, score));
+                }
+                if (updated <= 0) {
+                    return null;
+                }
+                ranking.add(new ScoredGroup(id, updated));
+                return updated;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void moveLandmark(long epochSecond) {
+        lock.writeLock().lock();
+        try {
+            if (decayPerSecond * (epochSecond - landmarkEpochSecond) <= MAX_EXPONENT) {
+                return; // 다른 스레드가 이미 옮김
+            }
+            double scale = Math.exp(-decayPerSecond * (epochSecond - landmarkEpochSecond));
+            ranking.clear();
+            scores.replaceAll((id, score) -> score * scale);
+            scores.values().removeIf(score -> score < Double.MIN_NORMAL);
+            scores.forEach((id, score) -> ranking.add(new ScoredGroup(id, score)));
+            landmarkEpochSecond = epochSecond;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
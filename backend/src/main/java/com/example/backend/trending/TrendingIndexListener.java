@@ -0,0 +1,96 @@
+package com.example.backend.trending;
+
+import com.example.backend.event.StudyGroupActivityEvent;
+import com.example.backend.event.StudyGroupActivityEvent.Activity;
+import com.example.backend.event.StudyGroupChangedEvent;
+import com.example.backend.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 트렌딩 인덱스를 활동 이벤트로 갱신
+// 시작 시에는 반감기의 warmup-half-lives배 이내에 생성된 그룹/찜/신청/댓글로 점수를 채운다.
+// (조회는 개별 기록이 없으므로 시작 이후의 조회만 반영된다.)
+@Slf4j
+@Component
+public class TrendingIndexListener {
+
+    private final StudyGroupRepository studyGroupRepository;
+    private final InterestRepository interestRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CommentRepository commentRepository;
+    private final TrendingIndex trendingIndex;
+    private final double warmupHours;
+    private volatile LocalDateTime countedSince; // 이 시각 이후의 활동만 점수에 들어 있다. (구성 전이면 null)
+
+    public TrendingIndexListener(StudyGroupRepository studyGroupRepository,
+                                 InterestRepository interestRepository,
+                                 ApplicationRepository applicationRepository,
+                                 CommentRepository commentRepository,
+                                 TrendingIndex trendingIndex,
+                                 @Value("${trending.half-life-hours:24}") double halfLifeHours,
+                                 @Value("${trending.warmup-half-lives:7}") double warmupHalfLives) {
+        this.studyGroupRepository = studyGroupRepository;
+        this.interestRepository = interestRepository;
+        this.applicationRepository = applicationRepository;
+        this.commentRepository = commentRepository;
+        this.trendingIndex = trendingIndex;
+        this.warmupHours = halfLifeHours * warmupHalfLives;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes((long) (warmupHours * 60));
+        trendingIndex.clear();
+        List<StudyGroupActivityTime> created = studyGroupRepository.findCreatedSince(since);
+        created.forEach(row -> trendingIndex.recordCreated(row.getStudyGroupId(), toInstant(row.getCreatedAt())));
+        int activities = record(interestRepository.findActivitySince(since), Activity.INTEREST_ADDED)
+                + record(applicationRepository.findActivitySince(since), Activity.APPLICATION)
+                + record(commentRepository.findActivitySince(since), Activity.COMMENT);
+        countedSince = since;
+        log.info("트렌딩 인덱스 구성 완료: 신규 그룹 {}개, 활동 {}건", created.size(), activities);
+    }
+
+    @TransactionalEventListener
+    public void onActivity(StudyGroupActivityEvent event) {
+        if (event.getActivity() == Activity.INTEREST_REMOVED) {
+            // 찜이 더해졌던 시각의 가치만큼 되돌린다. 추가 시각을 모르거나 점수에 반영되기 전(구성 범위 밖)의 찜이면 되돌릴 것이 없다.
+            LocalDateTime addedAt = event.getInterestAddedAt();
+            LocalDateTime since = countedSince;
+            if (addedAt != null && since != null && !addedAt.isBefore(since)) {
+                trendingIndex.record(event.getStudyGroupId(), Activity.INTEREST_REMOVED, toInstant(addedAt));
+            }
+            return;
+        }
+        trendingIndex.record(event.getStudyGroupId(), event.getActivity(), Instant.now());
+    }
+
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> trendingIndex.recordCreated(event.getStudyGroupId(), Instant.now());
+            case DELETED -> trendingIndex.remove(event.getStudyGroupId());
+            default -> {
+            }
+        }
+    }
+
+    private int record(List<StudyGroupActivityTime> rows, Activity activity) {
+        rows.forEach(row -> trendingIndex.record(row.getStudyGroupId(), activity, toInstant(row.getCreatedAt())));
+        return rows.size();
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.backend.view;
+
+import com.example.backend.entity.StudyGroupViewSketch;
+import com.example.backend.event.StudyGroupChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스터디 그룹별 고유 조회자 수 (HyperLogLog)
+// - 상세 조회마다 조회자 키(로그인 사용자 또는 클라이언트 지문의 해시)를 그룹별 메모리 스케치에 넣는다.
+// - 주기적으로 메모리 스케치를 오늘 일별 스케치와 전체 기간 스케치에 합쳐 저장하고,
+//   전체 기간 추정치를 study_group.unique_view_count에 반영한다. (정렬/목록 표시용)
+// - 저장 시 기존 스케치를 FOR UPDATE로 읽어 합치므로 여러 인스턴스가 동시에 반영해도 값이 유실되지 않는다.
+@Slf4j
+@Component
+public class UniqueViewCounter {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO study_group_view_sketch (study_group_id, view_date, registers) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE registers = VALUES(registers)";
+    private static final String UPDATE_COUNT_SQL = "UPDATE study_group SET unique_view_count = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    // 마지막 반영 이후 들어온 조회자만 담은 스케치. compute로 갱신하고 remove로 꺼내므로 반영 중 들어온 조회자도 유실되지 않는다.
+    private final ConcurrentHashMap<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private LocalDate lastPurgedDate;
+
+    public UniqueViewCounter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${view-count.unique.retention-days:90}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    public void record(Long studyGroupId, String viewerKey) {
+        long hash = HyperLogLog.hash(viewerKey);
+        pending.compute(studyGroupId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(hash);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.unique.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        LocalDate today = LocalDate.now();
+        List<Long> groupIds = new ArrayList<>(pending.keySet());
+        Collections.sort(groupIds);
+        for (int from = 0; from < groupIds.size(); from += CHUNK_SIZE) {
+            Map<Long, HyperLogLog> chunk = new TreeMap<>();
+            for (Long id : groupIds.subList(from, Math.min(from + CHUNK_SIZE, groupIds.size()))) {
+                HyperLogLog sketch = pending.remove(id);
+                if (sketch != null) {
+                    chunk.put(id, sketch);
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(chunk, today));
+            } catch (RuntimeException e) {
+                // 저장하지 못한 스케치는 다시 합쳐 두고 다음 주기에 재시도
+                chunk.forEach((id, sketch) -> pending.merge(id, sketch, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                }));
+                log.warn("고유 조회수 반영 실패 ({}개 그룹), 다음 주기에 재시도합니다.", chunk.size(), e);
+            }
+        }
+        purgeExpiredDailySketches(today);
+    }
+
+    private void persist(Map<Long, HyperLogLog> chunk, LocalDate today) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Date todayDate = Date.valueOf(today);
+        Date allTimeDate = Date.valueOf(StudyGroupViewSketch.ALL_TIME);
+        Map<Long, HyperLogLog> daily = new HashMap<>();
+        Map<Long, HyperLogLog> allTime = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+        List<Object> args = new ArrayList<>(chunk.keySet());
+        args.add(todayDate);
+        args.add(allTimeDate);
+        jdbcTemplate.query("SELECT study_group_id, view_date, registers FROM study_group_view_sketch " +
+                        "WHERE study_group_id IN (" + placeholders + ") AND view_date IN (?, ?) FOR UPDATE",
+                rs -> {
+                    Map<Long, HyperLogLog> target = rs.getDate("view_date").toLocalDate().equals(today) ? daily : allTime;
+                    target.put(rs.getLong("study_group_id"), HyperLogLog.fromBytes(rs.getBytes("registers")));
+                },
+                args.toArray());
+
+        List<Object[]> sketchRows = new ArrayList<>(chunk.size() * 2);
+        List<Object[]> countRows = new ArrayList<>(chunk.size());
+        chunk.forEach((id, sketch) -> {
+            HyperLogLog day = daily.computeIfAbsent(id, key -> new HyperLogLog());
+            day.merge(sketch);
+            HyperLogLog total = allTime.computeIfAbsent(id, key -> new HyperLogLog());
+            total.merge(sketch);
+            sketchRows.add(new Object[]{id, todayDate, day.toBytes()});
+            sketchRows.add(new Object[]{id, allTimeDate, total.toBytes()});
+            countRows.add(new Object[]{total.estimate(), id});
+        });
+        jdbcTemplate.batchUpdate(UPSERT_SQL, sketchRows, new int[]{Types.BIGINT, Types.DATE, Types.VARBINARY});
+        jdbcTemplate.batchUpdate(UPDATE_COUNT_SQL, countRows, new int[]{Types.BIGINT, Types.BIGINT});
+    }
+
+    // 보관 기간이 지난 일별 스케치 삭제 (하루 한 번)
+    private void purgeExpiredDailySketches(LocalDate today) {
+        if (today.equals(lastPurgedDate)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM study_group_view_sketch WHERE view_date < ? AND view_date <> ?",
+                    Date.valueOf(today.minusDays(retentionDays)), Date.valueOf(StudyGroupViewSketch.ALL_TIME));
+            lastPurgedDate = today;
+        } catch (RuntimeException e) {
+            log.warn("만료된 일별 조회 스케치 삭제 실패", e);
+        }
+    }
+
+    // 기간(from~to, 포함) 동안의 고유 조회자 수. 일별 스케치를 합쳐 추정한다.
+    public long countBetween(Long studyGroupId, LocalDate from, LocalDate to) {
+        HyperLogLog union = new HyperLogLog();
+        jdbcTemplate.query("SELECT registers FROM study_group_view_sketch " +
+                        "WHERE study_group_id = ? AND view_date BETWEEN ? AND ? AND view_date <> ?",
+                rs -> {
+                    union.merge(HyperLogLog.fromBytes(rs.getBytes("registers")));
+                },
+                studyGroupId, Date.valueOf(from), Date.valueOf(to), Date.valueOf(StudyGroupViewSketch.ALL_TIME));
+        return union.estimate();
+    }
+
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            pending.remove(event.getStudyGroupId());
+            jdbcTemplate.update("DELETE FROM study_group_view_sketch WHERE study_group_id = ?", event.getStudyGroupId());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
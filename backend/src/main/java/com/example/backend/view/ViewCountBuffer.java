@@ -0,0 +1,88 @@
+package com.example.backend.view;
+
+import com.example.backend.event.StudyGroupChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상세 조회 시 조회수를 바로 UPDATE하지 않고 메모리에 모았다가 주기적으로 한 번에 반영하는 버퍼 (write-behind)
+// - 그룹별 LongAdder에 더하기만 하므로 조회 요청은 잠금이나 DB 쓰기 없이 끝난다.
+// - flush는 그룹별 누적값을 sumThenReset으로 꺼내 "view_count = view_count + ?" 배치 UPDATE 한 번으로 반영한다.
+//   배치 전체를 한 트랜잭션으로 묶으므로, 실패해서 값을 되돌려 놓을 때 일부만 반영된 행이 남아 두 번 더해지지 않는다.
+// - view-count.flush-interval-ms가 반영 지연이자, 비정상 종료 시 잃을 수 있는 조회수의 최대 구간이다.
+//   정상 종료 시에는 @PreDestroy에서 남은 값을 반영한다.
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE study_group SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 그룹 수만큼만 커지므로 반영 후에도 항목은 지우지 않는다. (지우는 순간 들어온 증가분이 사라질 수 있음)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 조회 1회 기록. 아직 반영되지 않은 이 그룹의 조회수를 반환한다.
+    public long record(Long studyGroupId) {
+        LongAdder adder = pending.computeIfAbsent(studyGroupId, id -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // ID 순으로 갱신하여 여러 인스턴스가 동시에 반영할 때 행 잠금 순서를 맞춘다.
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> rows.add(new Object[]{delta, id}));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, rows, new int[]{Types.BIGINT, Types.BIGINT}));
+        } catch (RuntimeException e) {
+            // 롤백되어 아무 행도 반영되지 않았으므로 전부 다음 주기에 다시 시도
+            deltas.forEach((id, delta) -> pending.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            log.warn("조회수 반영 실패 ({}개 그룹), 다음 주기에 재시도합니다.", deltas.size(), e);
+        }
+    }
+
+    // 삭제된 스터디 그룹의 남은 값 정리
+    @TransactionalEventListener
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            pending.remove(event.getStudyGroupId());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
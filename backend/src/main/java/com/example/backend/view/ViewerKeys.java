@@ -0,0 +1,20 @@
+package com.example.backend.view;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// 고유 조회자 판별용 키. 로그인 사용자는 계정, 비로그인은 IP + User-Agent 지문을 쓴다.
+// 키 자체는 저장하지 않고 HyperLogLog 해시로만 쓰인다.
+public final class ViewerKeys {
+
+    private ViewerKeys() {
+    }
+
+    public static String of(UserDetails userDetails, HttpServletRequest request) {
+        if (userDetails != null) {
+            return "user:" + userDetails.getUsername();
+        }
+        String userAgent = request.getHeader("User-Agent");
+        return "client:" + request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.backend.realtime;
+
+import com.example.backend.realtime.StudyGroupStreamRegistry.Viewer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class StudyGroupStreamRegistryTest {
+
+    private final StudyGroupStreamRegistry registry = new StudyGroupStreamRegistry(new ObjectMapper(), 60_000, 8, 1, 200);
+    // 스프링 부트와 같이 문자열 변환기를 UTF-8로 둔다.
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(registry))
+            .setMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void deliversEventsOnlyToMatchingSubscribersOfTheGroup() throws Exception {
+        MockHttpServletResponse leader = open(1, "leader@test.com", true);
+        MockHttpServletResponse applicant = open(1, "applicant@test.com", false);
+        MockHttpServletResponse otherGroup = open(2, null, false);
+        waitUntil(() -> registry.subscriberCount() == 3);
+
+        registry.publish(1, "comment", Map.of("content", "안녕하세요"), viewer -> true);
+        registry.publish(1, "application", Map.of("status", "ACCEPTED"),
+                viewer -> viewer.leader() || "applicant@test.com".equals(viewer.email()));
+        registry.publish(1, "application", Map.of("status", "REJECTED"), Viewer::leader);
+
+        waitUntil(() -> content(leader).contains("REJECTED") && content(applicant).contains("ACCEPTED"));
+        assertThat(content(leader)).contains("event:connected", "event:comment", "\"content\":\"안녕하세요\"", "ACCEPTED", "REJECTED");
+        assertThat(content(applicant)).contains("event:comment", "ACCEPTED").doesNotContain("REJECTED");
+        assertThat(content(otherGroup)).contains("event:connected").doesNotContain("event:comment");
+    }
+
+    @Test
+    void heartbeatsAndGroupClose() throws Exception {
+        MockHttpServletResponse viewer = open(1, null, false);
+        waitUntil(() -> registry.subscriberCount() == 1);
+
+        registry.sendHeartbeats();
+        waitUntil(() -> content(viewer).contains(":heartbeat"));
+
+        registry.closeAll(1);
+        assertThat(registry.subscriberCount()).isZero();
+        registry.publish(1, "comment", Map.of("content", "늦은 댓글"), v -> true);
+        Thread.sleep(100);
+        assertThat(content(viewer)).doesNotContain("늦은 댓글");
+    }
+
+    @Test
+    void dropsSubscriberWhoseSendExceedsTheDeadline() throws Exception {
+        // 전송 스레드가 하나뿐이어도, 쓰기가 막힌 구독자 때문에 다른 구독자가 멈추지 않아야 한다.
+        StalledEmitter stalled = new StalledEmitter();
+        registry.register(1, new Viewer(null, false), stalled);
+        assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse viewer = open(1, null, false);
+
+        waitUntil(() -> registry.subscriberCount() == 1 && registry.senderPoolSize() == 2);
+        registry.publish(1, "comment", Map.of("content", "안녕하세요"), v -> true);
+        waitUntil(() -> content(viewer).contains("안녕하세요"));
+        assertThat(stalled.completed).isFalse();
+
+        // 막혔던 쓰기가 끝나면 그 연결을 닫고 보충했던 전송 스레드를 되돌린다.
+        stalled.release.countDown();
+        waitUntil(() -> stalled.completed && registry.senderPoolSize() == 1);
+        assertThat(stalled.sends).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse open(long studyGroupId, String email, boolean leader) throws Exception {
+        return mockMvc.perform(get("/stream")
+                        .param("studyGroupId", String.valueOf(studyGroupId))
+                        .param("email", email == null ? "" : email)
+                        .param("leader", String.valueOf(leader)))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        return new String(response.getContentAsByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // 클라이언트가 읽지 않아 쓰기가 막힌 연결
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile int sends;
+        private volatile boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sends++;
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    @RestController
+    static class StreamController {
+        private final StudyGroupStreamRegistry registry;
+
+        StreamController(StudyGroupStreamRegistry registry) {
+            this.registry = registry;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam long studyGroupId, @RequestParam String email, @RequestParam boolean leader) {
+            return registry.subscribe(studyGroupId, new Viewer(email.isEmpty() ? null : email, leader));
+        }
+    }
+}
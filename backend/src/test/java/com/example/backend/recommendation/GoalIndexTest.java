@@ -0,0 +1,93 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.StudyGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class GoalIndexTest {
+
+    private static final String[] GOALS = {
+            "스프링 부트 백엔드 실무", "리액트 프론트엔드 기초", "알고리즘 코딩 테스트 대비", "스프링 JPA 심화", "토익 900 달성"
+    };
+
+    @Test
+    void upsertWeighsOnlyChangedGroupAndRefreshMatchesRebuild() {
+        List<StudyGroup> groups = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            groups.add(studyGroup(id, GOALS[(int) (id % GOALS.length)]));
+        }
+        GoalIndex index = new GoalIndex(new TermDictionary(), false, 0, 0);
+        index.rebuild(groups);
+        SparseVector user = index.vectorize("스프링 백엔드 JPA");
+        double before = index.similarity(user, groups.get(0));
+
+        // 새 그룹은 바로 점수가 매겨지고, 다른 그룹의 가중치는 다음 갱신 전까지 그대로다.
+        StudyGroup added = studyGroup(51, "스프링 배치 백엔드");
+        index.upsert(added.getId(), added.getGoal());
+        groups.add(added);
+        assertThat(index.similarity(user, added)).isPositive();
+        assertThat(index.similarity(user, groups.get(0))).isEqualTo(before);
+
+        index.refreshWeights();
+        GoalIndex rebuilt = new GoalIndex(new TermDictionary(), false, 0, 0);
+        rebuilt.rebuild(groups);
+        SparseVector refreshedUser = index.vectorize("스프링 백엔드 JPA");
+        SparseVector rebuiltUser = rebuilt.vectorize("스프링 백엔드 JPA");
+        for (StudyGroup group : groups) {
+            assertThat(index.similarity(refreshedUser, group))
+                    .as("group %d", group.getId())
+                    .isCloseTo(rebuilt.similarity(rebuiltUser, group), offset(1e-6));
+        }
+    }
+
+    @Test
+    void changesDuringRefreshSurviveTheSwap() throws InterruptedException {
+        List<StudyGroup> groups = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            groups.add(studyGroup(id, GOALS[(int) (id % GOALS.length)] + " " + id));
+        }
+        GoalIndex index = new GoalIndex(new TermDictionary(), false, 0, 0);
+        index.rebuild(groups);
+
+        // 갱신을 계속 돌리는 동안 뒤쪽 그룹을 지우고 새 그룹을 넣는다.
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread refresher = new Thread(() -> {
+            while (running.get()) {
+                index.refreshWeights();
+            }
+        });
+        refresher.start();
+        List<StudyGroup> added = new ArrayList<>();
+        for (long id = 5_001; id <= 7_000; id++) {
+            StudyGroup group = studyGroup(id, "쿠버네티스 운영 " + id);
+            index.upsert(group.getId(), group.getGoal());
+            index.remove(id - 5_000);
+            added.add(group);
+        }
+        running.set(false);
+        refresher.join();
+
+        // 마지막 갱신 없이도 새 그룹은 모두 가중치가 있고, 지운 그룹은 인덱스에서 빠졌다.
+        SparseVector user = index.vectorize("쿠버네티스 운영");
+        for (StudyGroup group : added) {
+            assertThat(index.similarity(user, group)).as("group %d", group.getId()).isPositive();
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, SparseVector> vectors = (Map<Long, SparseVector>) ReflectionTestUtils.getField(index, "vectors");
+        assertThat(vectors).hasSize(5_000).doesNotContainKeys(1L, 2_000L).containsKeys(2_001L, 7_000L);
+    }
+
+    private static StudyGroup studyGroup(long id, String goal) {
+        StudyGroup group = StudyGroup.builder().title("group" + id).goal(goal).build();
+        ReflectionTestUtils.setField(group, "id", id);
+        return group;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.backend.recommendation;
+
+import com.example.backend.entity.StudyGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 근사(MinHash LSH) 후보 생성의 recall@K를 정확한 코사인 전수 계산과 비교
+// 다른 bands/rows 조합을 검토할 때는 PARAMETERS에 추가하고 recallByParameters/candidateRatioByParameters를 비교한다.
+class GoalLshRecallTest {
+
+    private static final int DOCUMENTS = 5_000;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+    private static final int TOPICS = 40;
+    private static final int WORDS_PER_TOPIC = 25;
+    private static final int BACKGROUND_WORDS = 1_500;
+
+    private static final int[][] PARAMETERS = {{20, 1}, {32, 1}, {64, 2}, {32, 2}};
+
+    @Test
+    void defaultParametersKeepHighRecall() {
+        Random random = new Random(42);
+        List<StudyGroup> corpus = new ArrayList<>();
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            corpus.add(studyGroup(id, randomGoal(random)));
+        }
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(randomGoal(random));
+        }
+
+        TermDictionary termDictionary = new TermDictionary();
+        GoalIndex exact = new GoalIndex(termDictionary, false, 0, 0);
+        exact.rebuild(corpus);
+
+        long postingsCandidateSum = 0;
+        for (String query : queries) {
+            Set<Long> candidateIds = new HashSet<>();
+            exact.collectCandidates(exact.vectorize(query), candidateIds);
+            postingsCandidateSum += candidateIds.size();
+        }
+        double postingsCandidateRatio = (double) postingsCandidateSum / QUERIES / DOCUMENTS;
+
+        Map<String, Double> recallByParameters = new LinkedHashMap<>();
+        Map<String, Double> candidateRatioByParameters = new LinkedHashMap<>();
+        for (int[] parameters : PARAMETERS) {
+            GoalIndex approximate = new GoalIndex(termDictionary, true, parameters[0], parameters[1]);
+            approximate.rebuild(corpus);
+
+            double recallSum = 0;
+            long candidateSum = 0;
+            for (String query : queries) {
+                SparseVector userVector = exact.vectorize(query);
+                List<Double> exactScores = topScores(exact, userVector, corpus);
+                if (exactScores.isEmpty()) {
+                    recallSum += 1;
+                    continue;
+                }
+                double kthScore = exactScores.get(exactScores.size() - 1);
+
+                Set<Long> candidateIds = new HashSet<>();
+                approximate.collectCandidates(userVector, candidateIds);
+                candidateSum += candidateIds.size();
+                List<StudyGroup> candidates = corpus.stream().filter(g -> candidateIds.contains(g.getId())).toList();
+                long hits = topScores(exact, userVector, candidates).stream()
+                        .filter(score -> score >= kthScore)
+                        .count();
+                recallSum += (double) Math.min(hits, exactScores.size()) / exactScores.size();
+            }
+            double recall = recallSum / QUERIES;
+            recallByParameters.put(parameters[0] + "x" + parameters[1], recall);
+            candidateRatioByParameters.put(parameters[0] + "x" + parameters[1], (double) candidateSum / QUERIES / DOCUMENTS);
+        }
+
+        // application.properties 기본값 (bands=20, rows=1)
+        assertThat(recallByParameters.get("20x1")).isGreaterThanOrEqualTo(0.95);
+        // 정확 계산의 역색인 후보보다 적게 점수를 매긴다.
+        assertThat(candidateRatioByParameters.get("20x1")).isLessThan(postingsCandidateRatio);
+    }
+
+    // 양수 점수 상위 K개 점수 (내림차순)
+    private static List<Double> topScores(GoalIndex index, SparseVector userVector, List<StudyGroup> groups) {
+        return groups.stream()
+                .map(group -> index.similarity(userVector, group))
+                .filter(score -> score > 0)
+                .sorted(Comparator.reverseOrder())
+                .limit(K)
+                .toList();
+    }
+
+    // 주제 단어 여러 개 + 배경 단어 몇 개로 이루어진 목표 문장
+    private static String randomGoal(Random random) {
+        int topic = random.nextInt(TOPICS);
+        StringJoiner goal = new StringJoiner(" ");
+        int topicWords = 4 + random.nextInt(5);
+        for (int i = 0; i < topicWords; i++) {
+            goal.add("topic" + topic + "w" + random.nextInt(WORDS_PER_TOPIC));
+        }
+        int backgroundWords = 1 + random.nextInt(3);
+        for (int i = 0; i < backgroundWords; i++) {
+            goal.add("common" + (int) Math.pow(BACKGROUND_WORDS, random.nextDouble())); // 앞쪽 단어일수록 흔함
+        }
+        return goal.toString();
+    }
+
+    private static StudyGroup studyGroup(long id, String goal) {
+        StudyGroup studyGroup = StudyGroup.builder().title("group" + id).goal(goal).build();
+        ReflectionTestUtils.setField(studyGroup, "id", id);
+        return studyGroup;
+    }
+}
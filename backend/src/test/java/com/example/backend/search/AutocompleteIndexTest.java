@@ -0,0 +1,81 @@
+package com.example.backend.search;
+
+import com.example.backend.search.AutocompleteIndex.Suggestion;
+import com.example.backend.search.AutocompleteIndex.Type;
+import com.example.backend.text.Chosung;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+    @Test
+    void suggestsByPrefixChosungAndWordStart() {
+        AutocompleteIndex index = new AutocompleteIndex(10);
+        index.rebuild(List.of(
+                new Suggestion(Type.TAG, 1, "스프링", 5),
+                new Suggestion(Type.TAG, 2, "스위프트", 9),
+                new Suggestion(Type.STUDY_GROUP, 10, "자바 스프링 스터디", 3),
+                new Suggestion(Type.STUDY_GROUP, 11, "Spring Boot 입문", 1)));
+
+        assertThat(ids(index.suggest("ㅅㅍㄹ", 10))).containsExactly(1L, 10L);
+        assertThat(ids(index.suggest("스ㅍ", 10))).containsExactly(1L, 10L);
+        assertThat(ids(index.suggest("스", 10))).containsExactly(2L, 1L, 10L);
+        assertThat(ids(index.suggest("자바", 10))).containsExactly(10L);
+        assertThat(ids(index.suggest("SPRING b", 10))).containsExactly(11L);
+        assertThat(ids(index.suggest("스", 1))).containsExactly(2L);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void incrementalUpdatesMatchBruteForceTopN() {
+        int maxSuggestions = 5;
+        AutocompleteIndex index = new AutocompleteIndex(maxSuggestions);
+        Random random = new Random(7);
+        String alphabet = "스프링자바부트ab";
+        Map<Long, Suggestion> live = new HashMap<>();
+        for (int step = 0; step < 3_000; step++) {
+            if (step == 1_500) {
+                index.rebuild(new ArrayList<>(live.values())); // 재구성 후에도 증분 변경이 이어져야 한다.
+            }
+            long id = random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                index.remove(Type.TAG, id);
+                live.remove(id);
+            } else {
+                StringBuilder text = new StringBuilder();
+                for (int i = 1 + random.nextInt(5); i > 0; i--) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                Suggestion suggestion = new Suggestion(Type.TAG, id, text.toString(), random.nextInt(50));
+                index.upsert(suggestion);
+                live.put(id, suggestion);
+            }
+        }
+
+        for (String prefix : List.of("스", "스프", "자", "a", "ab", "부트", "ㅅ", "ㅈㅂ")) {
+            boolean chosungQuery = Chosung.containsChosung(prefix);
+            List<Long> expected = live.values().stream()
+                    .filter(s -> chosungQuery ? Chosung.of(s.text()).startsWith(prefix) : s.text().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(Suggestion::popularity).reversed()
+                            .thenComparingInt(s -> s.text().length())
+                            .thenComparing(Suggestion::text))
+                    .limit(maxSuggestions)
+                    .map(Suggestion::id)
+                    .toList();
+            assertThat(ids(index.suggest(prefix, maxSuggestions))).as(prefix).isEqualTo(expected);
+        }
+
+        // 모두 지우면 간선 분할/병합 후에도 남는 노드가 없어야 한다.
+        live.keySet().forEach(id -> index.remove(Type.TAG, id));
+        for (String prefix : List.of("스", "자", "a", "ㅅ")) {
+            assertThat(index.suggest(prefix, maxSuggestions)).as(prefix).isEmpty();
+        }
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.backend.search;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 오타 후보 조회 시간 비교 (BK-tree vs 전체 용어와 편집 거리 계산), 용어 20,000개
+// 실행: ./mvnw test -Dtest=BkTreeBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BkTreeBenchmarkTest {
+
+    private static final int TERMS = 20_000;
+    private static final int QUERIES = 200;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    void bkTreeOutperformsBruteForce() {
+        Random random = new Random(3);
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < TERMS) {
+            terms.add(BkTreeTest.randomWord(random));
+        }
+        BkTree tree = new BkTree();
+        terms.forEach(tree::add);
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(BkTreeTest.randomWord(random));
+        }
+
+        // 검색 시와 같은 허용 거리(6자 이하 1, 그 이상 2)
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            queries.forEach(query -> tree.search(query, policyDistance(query)));
+        }
+        long treeStart = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            queries.forEach(query -> tree.search(query, policyDistance(query)));
+        }
+        long treeNanos = (System.nanoTime() - treeStart) / MEASURED_ROUNDS;
+
+        LevenshteinDistance distance = LevenshteinDistance.getDefaultInstance();
+        long bruteForceStart = System.nanoTime();
+        long sink = 0;
+        for (String query : queries) {
+            for (String term : terms) {
+                if (distance.apply(query, term) <= policyDistance(query)) {
+                    sink++;
+                }
+            }
+        }
+        long bruteForceNanos = System.nanoTime() - bruteForceStart;
+        System.out.printf("BK-tree lookup: %.3f ms, brute force: %.3f ms (%d terms, sink %d)%n",
+                treeNanos / 1e6 / QUERIES, bruteForceNanos / 1e6 / QUERIES, tree.size(), sink);
+
+        assertThat(treeNanos).isLessThan(bruteForceNanos);
+        assertThat(treeNanos / 1e6 / QUERIES).as("조회 1회 ms").isLessThan(1.0);
+    }
+
+    private static int policyDistance(String query) {
+        return query.length() <= 6 ? 1 : 2;
+    }
+}
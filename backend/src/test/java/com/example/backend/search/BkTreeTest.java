@@ -0,0 +1,78 @@
+package com.example.backend.search;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    @Test
+    void findsTermsWithinEditDistance() {
+        BkTree tree = new BkTree();
+        List.of("kubernetes", "스프링부트", "스프링", "react", "redux", "spring").forEach(tree::add);
+
+        assertThat(tree.search("kubernets", 2)).containsExactly("kubernetes");
+        assertThat(tree.search("스프링부투", 1)).containsExactly("스프링부트");
+        assertThat(tree.search("reaxt", 1)).containsExactly("react");
+        assertThat(tree.search("python", 2)).isEmpty();
+    }
+
+    @Test
+    void removedTermsAreNotReturnedUntilAddedAgain() {
+        BkTree tree = new BkTree();
+        tree.add("docker");
+        tree.add("docker"); // 두 문서에서 사용
+        tree.remove("docker");
+        assertThat(tree.search("dokcer", 2)).containsExactly("docker");
+
+        tree.remove("docker");
+        assertThat(tree.search("dokcer", 2)).isEmpty();
+        assertThat(tree.size()).isZero();
+
+        tree.add("docker");
+        assertThat(tree.search("dokcer", 2)).containsExactly("docker");
+    }
+
+    @Test
+    void matchesBruteForceOnLargeDictionary() {
+        Random random = new Random(3);
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < 20_000) {
+            terms.add(randomWord(random));
+        }
+        BkTree tree = new BkTree();
+        terms.forEach(tree::add);
+        // 절반을 지워서 재구성도 거치게 한다.
+        List<String> removed = terms.stream().sorted().limit(12_000).toList();
+        removed.forEach(tree::remove);
+        removed.forEach(terms::remove);
+
+        LevenshteinDistance distance = LevenshteinDistance.getDefaultInstance();
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            queries.add(randomWord(random));
+        }
+        for (String query : queries) {
+            Set<String> expected = new HashSet<>();
+            for (String term : terms) {
+                if (distance.apply(query, term) <= 2) {
+                    expected.add(term);
+                }
+            }
+            assertThat(new HashSet<>(tree.search(query, 2))).isEqualTo(expected);
+        }
+
+    }
+
+    static String randomWord(Random random) {
+        int length = 4 + random.nextInt(7);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.StudyGroup;
+import com.example.backend.entity.StudyGroupTag;
+import com.example.backend.entity.Tag;
+import com.example.backend.entity.User;
+import com.example.backend.recommendation.ScoredGroup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 지연 비교 (기존 전체 순회 contains 필터 vs 역색인 + BM25 상위 K)
+// 실행: ./mvnw test -Dtest=StudyGroupSearchBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StudyGroupSearchBenchmarkTest {
+
+    private static final int GROUPS = 20_000;
+    private static final int ROUNDS = 1_000;
+    private static final int LONG_TAIL_WORDS = 5_000;
+    private static final int K = 20;
+
+    private static final String[] WORDS = {
+            "스프링", "부트", "리액트", "자바", "코틀린", "알고리즘", "토익", "면접", "프로젝트", "백엔드",
+            "프론트엔드", "데이터", "머신러닝", "디자인", "클라우드", "쿠버네티스", "spring", "react", "java", "kotlin",
+            "docker", "aws", "jpa", "typescript", "node", "python", "django", "swift", "android", "flutter"
+    };
+    private static final String[] REGIONS = {"서울", "부산", "대구", "인천", "광주"};
+    private static final String[] QUERIES = {"스프링", "react", "자바 면접", "docker aws", "알고리즘", "프론트엔드 typescript", "서울 spring", "keyword42", "keyword7 자바"};
+
+    @Test
+    void indexedSearchOutperformsLinearFilter() {
+        Random random = new Random(7);
+        List<StudyGroup> groups = new ArrayList<>(GROUPS);
+        for (long id = 1; id <= GROUPS; id++) {
+            groups.add(studyGroup(id, random));
+        }
+        StudyGroupSearchIndex index = new StudyGroupSearchIndex(3.0, 2.0, 1.5, 1.0, 1.0, 1.0);
+        index.rebuild(groups);
+
+        long sink = 0;
+        for (int i = 0; i < ROUNDS / 4; i++) { // 워밍업
+            sink += linearFilter(groups, QUERIES[i % QUERIES.length]).size();
+            sink += index.search(QUERIES[i % QUERIES.length], K, null).size();
+        }
+
+        long linearStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += linearFilter(groups, QUERIES[i % QUERIES.length]).size();
+        }
+        long linearNanos = System.nanoTime() - linearStart;
+
+        long indexStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += index.search(QUERIES[i % QUERIES.length], K, null).size();
+        }
+        long indexNanos = System.nanoTime() - indexStart;
+
+        System.out.printf("linear contains filter : %.3f ms/query (unranked)%n", linearNanos / 1e6 / ROUNDS);
+        System.out.printf("index + BM25 top-%d    : %.3f ms/query (%.1fx)%n", K, indexNanos / 1e6 / ROUNDS, (double) linearNanos / indexNanos);
+        System.out.println("(sink " + sink + ")");
+
+        List<ScoredGroup> ranked = index.search("스프링", K, null);
+        assertThat(ranked).isNotEmpty();
+        assertThat(index.search("스프링", K, ranked.get(ranked.size() - 1)))
+                .doesNotContainAnyElementsOf(ranked);
+        assertThat(indexNanos).isLessThan(linearNanos);
+    }
+
+    // 변경 전 StudyGroupService.findAllStudyGroup의 검색 필터
+    private static List<StudyGroup> linearFilter(List<StudyGroup> allGroups, String search) {
+        String lowerCaseSearch = search.toLowerCase();
+        return allGroups.stream()
+                .filter(group ->
+                        group.getTitle().toLowerCase().contains(lowerCaseSearch) ||
+                        group.getTopic().toLowerCase().contains(lowerCaseSearch) ||
+                        group.getDescription().toLowerCase().contains(lowerCaseSearch) ||
+                        group.getCreator().getNickname().toLowerCase().contains(lowerCaseSearch) ||
+                        (group.getRegion() != null && group.getRegion().toLowerCase().contains(lowerCaseSearch)) ||
+                        group.getStudyGroupTags().stream()
+                                .anyMatch(sgTag -> sgTag.getTag().getName().toLowerCase().contains(lowerCaseSearch))
+                )
+                .collect(Collectors.toList());
+    }
+
+    private static StudyGroup studyGroup(long id, Random random) {
+        User creator = User.builder().nickname("user" + random.nextInt(2_000)).build();
+        ReflectionTestUtils.setField(creator, "id", id % 2_000);
+        StudyGroup studyGroup = StudyGroup.builder()
+                .title(words(random, 3) + " 스터디")
+                .topic(WORDS[random.nextInt(WORDS.length)])
+                .description(words(random, 4) + " " + longTailWords(random, 8))
+                .region(REGIONS[random.nextInt(REGIONS.length)])
+                .creator(creator)
+                .build();
+        ReflectionTestUtils.setField(studyGroup, "id", id);
+        for (int i = 0; i < 3; i++) {
+            studyGroup.getStudyGroupTags().add(new StudyGroupTag(studyGroup, new Tag(WORDS[random.nextInt(WORDS.length)])));
+        }
+        return studyGroup;
+    }
+
+    // 드물게 등장하는 단어 (앞 번호일수록 흔함)
+    private static String longTailWords(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append("keyword").append((int) Math.pow(LONG_TAIL_WORDS, random.nextDouble())).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.*;
+import com.example.backend.recommendation.*;
+import com.example.backend.repository.StudyGroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecommendationServiceTest {
+
+    private static final int GROUPS = 3_000;
+    private static final String[] GOALS = {
+            "스프링 부트 백엔드 실무", "리액트 프론트엔드 기초", "알고리즘 코딩 테스트 대비", "스프링 JPA 심화", "토익 900 달성"
+    };
+
+    @Test
+    void parallelScoringMatchesSequentialOrderingIncludingTies() {
+        // 목표 문장 5개, 태그/경력/스타일/지역 몇 가지 조합뿐이라 같은 점수의 그룹이 많다.
+        Random random = new Random(11);
+        Tag[] tags = {tag(1, "java"), tag(2, "spring"), tag(3, "react")};
+        List<StudyGroup> groups = new ArrayList<>();
+        for (long id = 1; id <= GROUPS; id++) {
+            StudyGroup group = StudyGroup.builder()
+                    .title("group" + id)
+                    .goal(GOALS[random.nextInt(GOALS.length)])
+                    .requiredCareer(Career.values()[random.nextInt(Career.values().length)])
+                    .studyStyle(StudyStyle.values()[random.nextInt(StudyStyle.values().length)])
+                    .region(random.nextBoolean() ? "서울" : "부산")
+                    .build();
+            ReflectionTestUtils.setField(group, "id", id);
+            group.addStudyGroupTag(new StudyGroupTag(group, tags[0]));
+            if (random.nextBoolean()) {
+                group.addStudyGroupTag(new StudyGroupTag(group, tags[1 + random.nextInt(2)]));
+            }
+            groups.add(group);
+        }
+        User user = User.builder()
+                .email("user@test.com")
+                .goal(GOALS[0])
+                .career(Career.values()[0])
+                .studyStyle(StudyStyle.values()[0])
+                .region("서울")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        user.addUserTag(new UserTag(user, tags[0]));
+        user.addUserTag(new UserTag(user, tags[1]));
+
+        // 순차: 임계값에 닿지 않음, 병렬: 64개 단위로 쪼개 4개 스레드에서 계산 (후보 조회 순서도 다르게)
+        RecommendationScoringPool sequentialPool = new RecommendationScoringPool(Integer.MAX_VALUE, 1024, 1);
+        RecommendationScoringPool parallelPool = new RecommendationScoringPool(0, 64, 4);
+        try {
+            RecommendationService sequential = service(groups, sequentialPool, new Random(1));
+            RecommendationService parallel = service(groups, parallelPool, new Random(2));
+
+            for (int topN : new int[]{10, 100, GROUPS}) {
+                List<RecommendationCache.Entry> expected = sequential.precompute(user, Set.of(), topN).entries();
+                List<RecommendationCache.Entry> actual = parallel.precompute(user, Set.of(), topN).entries();
+
+                assertThat(actual).as("top %d", topN).isEqualTo(expected);
+                assertThat(actual).hasSize(topN);
+                // 같은 점수끼리는 ID 오름차순
+                for (int i = 1; i < actual.size(); i++) {
+                    RecommendationCache.Entry previous = actual.get(i - 1);
+                    RecommendationCache.Entry current = actual.get(i);
+                    assertThat(previous.score()).isGreaterThanOrEqualTo(current.score());
+                    if (previous.score() == current.score()) {
+                        assertThat(previous.studyGroupId()).isLessThan(current.studyGroupId());
+                    }
+                }
+                assertThat(actual.stream().mapToDouble(RecommendationCache.Entry::score).distinct().count())
+                        .as("동점 포함").isLessThan(topN);
+            }
+        } finally {
+            sequentialPool.shutdown();
+            parallelPool.shutdown();
+        }
+    }
+
+    private static RecommendationService service(List<StudyGroup> groups, RecommendationScoringPool pool, Random shuffle) {
+        GoalIndex goalIndex = new GoalIndex(new TermDictionary(), false, 0, 0);
+        goalIndex.rebuild(groups);
+        CandidateIndex candidateIndex = new CandidateIndex(goalIndex, new TagDictionary(), GROUPS);
+        candidateIndex.rebuild(groups);
+
+        StudyGroupRepository studyGroupRepository = mock(StudyGroupRepository.class);
+        when(studyGroupRepository.findAllWithTagsAndDetailsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<?> ids = invocation.getArgument(0);
+            List<StudyGroup> found = new ArrayList<>(groups.stream().filter(group -> ids.contains(group.getId())).toList());
+            Collections.shuffle(found, shuffle);
+            return found;
+        });
+        return new RecommendationService(goalIndex, candidateIndex,
+                new RecommendationCache(100, new SimpleMeterRegistry()), pool, null, studyGroupRepository);
+    }
+
+    private static Tag tag(long id, String name) {
+        Tag tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.backend.text;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 처리량 비교 (기존 정규식 기반 RecommendationService.tokenize vs Tokenizer)
+// 실행: ./mvnw test -Dtest=TokenizerBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TokenizerBenchmarkTest {
+
+    private static final String[] SAMPLES = {
+            "스프링 부트 심층 탐구 및 실무 적용. Spring Boot 3와 JPA를 활용한 백엔드 개발!",
+            "리액트 기초부터 차근차근 배웁니다. React, TypeScript, Vite 환경 구성",
+            "확장 가능한 Node.js 아키텍처 연구 - 대용량 트래픽 처리 (MSA, Kafka)",
+            "매일 단어 시험 및 모의고사 풀이, 토익 900+ 달성 목표",
+            "Go 언어로 MSA 구축하기: gRPC, Kubernetes, 관측 가능성(Observability)"
+    };
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    @Test
+    void tokenizerOutperformsRegexImplementation() {
+        TokenBuffer buffer = new TokenBuffer();
+        long sink = 0;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += legacyTokenize(SAMPLES[i % SAMPLES.length]).size();
+            Tokenizer.WORDS.tokenize(SAMPLES[i % SAMPLES.length], buffer);
+            sink += buffer.size();
+        }
+
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += legacyTokenize(SAMPLES[i % SAMPLES.length]).size();
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long tokenizerStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            Tokenizer.WORDS.tokenize(SAMPLES[i % SAMPLES.length], buffer);
+            sink += buffer.size();
+        }
+        long tokenizerNanos = System.nanoTime() - tokenizerStart;
+
+        double legacyOpsPerSec = MEASURED_ROUNDS / (legacyNanos / 1e9);
+        double tokenizerOpsPerSec = MEASURED_ROUNDS / (tokenizerNanos / 1e9);
+        System.out.printf("regex tokenize : %,.0f docs/s%n", legacyOpsPerSec);
+        System.out.printf("Tokenizer      : %,.0f docs/s (%.1fx)%n", tokenizerOpsPerSec, tokenizerOpsPerSec / legacyOpsPerSec);
+        System.out.println("(sink " + sink + ")");
+
+        assertThat(tokenizerOpsPerSec).isGreaterThan(legacyOpsPerSec);
+    }
+
+    // 변경 전 RecommendationService.tokenize 구현
+    private static List<String> legacyTokenize(String text) {
+        String cleanedText = text.replaceAll("[^a-zA-Z0-9가-힣\\s]", " ").toLowerCase();
+        String[] words = cleanedText.split("\\s+");
+        return Arrays.stream(words)
+                .filter(word -> !word.isBlank() && word.length() > 1)
+                .collect(Collectors.toList());
+    }
+}
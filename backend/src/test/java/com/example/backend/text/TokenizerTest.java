@@ -0,0 +1,58 @@
+package com.example.backend.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenizerTest {
+
+    private final TokenBuffer buffer = new TokenBuffer();
+
+    @Test
+    void splitsOnNonWordCharactersAndLowercasesLatin() {
+        assertThat(tokens(Tokenizer.WORDS, "Spring Boot, JPA! 스프링-마스터")).containsExactly("spring", "boot", "jpa", "스프링", "마스터");
+    }
+
+    @Test
+    void keepsSingleHangulSyllableButDropsSingleLatinCharacter() {
+        assertThat(tokens(Tokenizer.WORDS, "책 a 1 일 go")).containsExactly("책", "일", "go");
+    }
+
+    @Test
+    void emitsHangulBigramsOnlyWhenEnabled() {
+        assertThat(tokens(Tokenizer.WORDS, "스프링부트")).containsExactly("스프링부트");
+        assertThat(tokens(Tokenizer.WORDS_AND_HANGUL_BIGRAMS, "스프링부트"))
+                .containsExactly("스프링부트", "스프", "프링", "링부", "부트");
+    }
+
+    @Test
+    void treatsSupplementaryCharactersAsSeparators() {
+        assertThat(tokens(Tokenizer.WORDS, "자바😀코틀린")).containsExactly("자바", "코틀린");
+    }
+
+    @Test
+    void reusesBufferBetweenCalls() {
+        Tokenizer.WORDS.tokenize("first call here", buffer);
+        Tokenizer.WORDS.tokenize("두번째", buffer);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.get(0)).isEqualTo("두번째");
+    }
+
+    @Test
+    void handlesNullAndBlankText() {
+        assertThat(tokens(Tokenizer.WORDS, null)).isEmpty();
+        assertThat(tokens(Tokenizer.WORDS, "   ")).isEmpty();
+    }
+
+    private List<String> tokens(Tokenizer tokenizer, String text) {
+        tokenizer.tokenize(text, buffer);
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < buffer.size(); i++) {
+            result.add(buffer.get(i));
+        }
+        return result;
+    }
+}
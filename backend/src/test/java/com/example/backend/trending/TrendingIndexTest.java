@@ -0,0 +1,103 @@
+package com.example.backend.trending;
+
+import com.example.backend.event.StudyGroupActivityEvent.Activity;
+import com.example.backend.recommendation.ScoredGroup;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class TrendingIndexTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final TrendingIndex index = new TrendingIndex(24, 1, 5, 8, 3, 10);
+
+    @Test
+    void recentActivityOutranksOlderActivityOfSameWeight() {
+        // 반감기 두 번이 지난 찜 3개(= 현재 가치 0.75개)보다 방금 찜 1개가 앞선다.
+        for (int i = 0; i < 3; i++) {
+            index.record(1, Activity.INTEREST_ADDED, NOW.minus(Duration.ofHours(48)));
+        }
+        index.record(2, Activity.INTEREST_ADDED, NOW.minus(Duration.ofHours(1)));
+        index.record(3, Activity.INTEREST_ADDED, NOW);
+        index.record(3, Activity.INTEREST_ADDED, NOW);
+
+        assertThat(ids(index.top(10, null))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void scoresMatchHalfLifeDecay() {
+        index.record(1, Activity.COMMENT, NOW.minus(Duration.ofHours(24)));
+        index.record(2, Activity.COMMENT, NOW);
+
+        List<ScoredGroup> top = index.top(2, null);
+        assertThat(top.get(1).score() / top.get(0).score()).isCloseTo(0.5, offset(1e-9));
+    }
+
+    @Test
+    void removingOldInterestTakesBackOnlyWhatItAdded() {
+        // 사흘 전 찜을 지금 취소해도 그때 더한 만큼(현재 가치 5/8)만 빠지고, 최근 댓글 점수는 남는다.
+        Instant addedAt = NOW.minus(Duration.ofHours(72));
+        index.record(1, Activity.INTEREST_ADDED, addedAt);
+        index.record(1, Activity.COMMENT, NOW);
+        index.record(1, Activity.INTEREST_REMOVED, addedAt);
+        index.record(2, Activity.COMMENT, NOW);
+
+        List<ScoredGroup> top = index.top(10, null);
+        assertThat(top).extracting(ScoredGroup::studyGroupId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(top.get(0).score()).isCloseTo(top.get(1).score(), offset(1e-9));
+    }
+
+    @Test
+    void removedInterestAndDeletedGroupLeaveRanking() {
+        index.record(1, Activity.INTEREST_ADDED, NOW);
+        index.record(1, Activity.INTEREST_REMOVED, NOW);
+        index.record(2, Activity.VIEW, NOW);
+        index.recordCreated(3, NOW);
+        index.remove(3);
+
+        assertThat(ids(index.top(10, null))).containsExactly(2L);
+    }
+
+    @Test
+    void cursorPagesCoverWholeRankingOnce() {
+        for (long id = 1; id <= 50; id++) {
+            index.record(id, Activity.VIEW, NOW.minus(Duration.ofMinutes(id * 7 % 13)));
+        }
+        List<Long> paged = new ArrayList<>();
+        ScoredGroup after = null;
+        while (true) {
+            List<ScoredGroup> page = index.top(7, after);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(ids(page));
+            after = ScoredGroup.fromCursor(page.get(page.size() - 1).toCursor());
+        }
+        assertThat(paged).isEqualTo(ids(index.top(100, null))).hasSize(50);
+    }
+
+    @Test
+    void movingLandmarkKeepsOrderAndFiniteScores() {
+        index.record(1, Activity.APPLICATION, NOW);
+        index.record(2, Activity.VIEW, NOW);
+        // 지수가 한계를 넘는 먼 미래의 활동으로 기준 시각 이동
+        Instant later = NOW.plus(Duration.ofDays(800));
+        index.record(3, Activity.COMMENT, later);
+        index.record(4, Activity.VIEW, later);
+
+        List<ScoredGroup> top = index.top(10, null);
+        assertThat(ids(top)).startsWith(3L, 4L);
+        assertThat(top).allMatch(group -> Double.isFinite(group.score()));
+    }
+
+    private static List<Long> ids(List<ScoredGroup> groups) {
+        return groups.stream().map(ScoredGroup::studyGroupId).toList();
+    }
+}
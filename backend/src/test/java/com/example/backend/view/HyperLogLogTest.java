@@ -0,0 +1,50 @@
+package com.example.backend.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesDistinctViewersAndIgnoresRepeats() {
+        for (int distinct : new int[]{10, 1_000, 50_000, 500_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < distinct; i++) {
+                sketch.addKey("user:" + i);
+                sketch.addKey("user:" + i); // 새로고침
+            }
+            double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+            assertThat(error).isLessThan(0.05);
+        }
+    }
+
+    @Test
+    void mergeEqualsUnionOfDailySketches() {
+        HyperLogLog all = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int day = 0; day < 7; day++) {
+            HyperLogLog daily = new HyperLogLog();
+            for (int i = day * 1_000; i < day * 1_000 + 3_000; i++) { // 날마다 겹치는 조회자
+                daily.addKey("user:" + i);
+                all.addKey("user:" + i);
+            }
+            union.merge(daily);
+        }
+        assertThat(union.estimate()).isEqualTo(all.estimate());
+        assertThat(Math.abs(union.estimate() - 9_000) / 9_000.0).isLessThan(0.05);
+    }
+
+    @Test
+    void serializesToFixedSizeRegisters() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.addKey("client:" + i);
+        }
+        byte[] bytes = sketch.toBytes();
+        assertThat(bytes).hasSize(2048);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[10])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
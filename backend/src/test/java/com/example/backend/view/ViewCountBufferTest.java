@@ -0,0 +1,133 @@
+package com.example.backend.view;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountBufferTest {
+
+    @Test
+    void concurrentRecordsAreNeitherLostNorDoubleCountedAcrossFlushes() throws Exception {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = jdbcTemplate.newBuffer();
+
+        int threads = 8;
+        int viewsPerThread = 50_000;
+        int groups = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.record((long) (i % groups));
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            buffer.flush();
+        }
+        executor.shutdown();
+        buffer.flushOnShutdown();
+
+        assertThat(jdbcTemplate.flushed.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo((long) threads * viewsPerThread);
+        assertThat(jdbcTemplate.flushed).hasSize(groups);
+        assertThat(jdbcTemplate.flushed.values()).allMatch(count -> count == (long) threads * viewsPerThread / groups);
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = jdbcTemplate.newBuffer();
+        buffer.record(1L);
+        buffer.record(1L);
+
+        jdbcTemplate.failing.set(true);
+        buffer.flush();
+        assertThat(jdbcTemplate.flushed).isEmpty();
+
+        jdbcTemplate.failing.set(false);
+        buffer.record(1L);
+        buffer.flush();
+        assertThat(jdbcTemplate.flushed).containsEntry(1L, 3L);
+    }
+
+    @Test
+    void partiallyAppliedFlushIsRolledBackSoRetryDoesNotDoubleCount() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = jdbcTemplate.newBuffer();
+        buffer.record(1L);
+        buffer.record(2L);
+        buffer.record(2L);
+
+        jdbcTemplate.failAfterRows = 1; // 그룹 1 반영 후 실패
+        buffer.flush();
+        assertThat(jdbcTemplate.flushed).isEmpty();
+
+        jdbcTemplate.failAfterRows = Integer.MAX_VALUE;
+        buffer.flush();
+        assertThat(jdbcTemplate.flushed).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 2L, 2L));
+    }
+
+    // 트랜잭션 안에서 반영한 값은 커밋 시에만 flushed에 남는다.
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        private final Map<Long, Long> uncommitted = new HashMap<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private volatile int failAfterRows = Integer.MAX_VALUE;
+
+        private ViewCountBuffer newBuffer() {
+            return new ViewCountBuffer(this, new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                    uncommitted.clear();
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                    uncommitted.forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                    uncommitted.clear();
+                }
+            });
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs, int[] argTypes) {
+            if (failing.get()) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            int applied = 0;
+            for (Object[] args : batchArgs) {
+                if (applied++ == failAfterRows) {
+                    throw new IllegalStateException("배치 도중 실패");
+                }
+                uncommitted.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+}